@@ -0,0 +1,69 @@
+package com.example.intern.global.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * 401/404/409 에러 경로의 예외 생성 + 응답 본문 비용.
+ * baseline 은 스택 트레이스를 채우는 예외와 ObjectMapper 직렬화(이전 방식), handler 는 현재 방식(응답 스트림에 바로 쓰기)이다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+	@Param({"INVALID_REFRESH_TOKEN", "NOT_FOUND_USERNAME", "ALREADY_USERNAME"})
+	public ErrorCode errorCode;
+
+	private GlobalExceptionHandler handler;
+	private ErrorResponseHttpMessageConverter converter;
+	private ObjectMapper objectMapper;
+	private MockHttpServletRequest request;
+
+	@Setup
+	public void setUp() {
+		handler = new GlobalExceptionHandler();
+		converter = new ErrorResponseHttpMessageConverter();
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		request = new MockHttpServletRequest("POST", "/api/login");
+	}
+
+	// 이전 GlobalException 생성자처럼 스택 트레이스를 채우고 호출 위치를 두 번 조회
+	@Benchmark
+	public byte[] baseline() throws Exception {
+		RuntimeException exception = new RuntimeException(errorCode.getMsg());
+		String caller = Thread.currentThread().getStackTrace()[1].getClassName() + "."
+			+ Thread.currentThread().getStackTrace()[1].getMethodName();
+		ExceptionResponseDto body = new ExceptionResponseDto(exception.getMessage() + caller.length(), request.getRequestURI());
+		return objectMapper.writeValueAsBytes(body);
+	}
+
+	@Benchmark
+	public byte[] handler() throws Exception {
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+		try {
+			throw GlobalException.of(errorCode);
+		} catch (GlobalException e) {
+			converter.write(handler.handleGlobalException(request, e).getBody(), MediaType.APPLICATION_JSON, outputMessage);
+		}
+		return outputMessage.getBodyAsBytes();
+	}
+}
@@ -0,0 +1,71 @@
+package com.example.intern.jwt;
+
+import com.example.intern.user.entity.User;
+import com.example.intern.user.entity.UserRole;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 기존 토큰과 압축 토큰의 헤더 크기와 발급/검증 비용 비교.
+ * 헤더 크기(Authorization 헤더 바이트 수)는 JMH 결과에 나오지 않으므로 형식별로 setUp 에서 한 번 로그로 남긴다.
+ * (압축 헤더가 더 작다는 것은 JwtUtilTest 가 확인한다)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompactTokenBenchmark {
+
+	private static final Logger log = LoggerFactory.getLogger(CompactTokenBenchmark.class);
+
+	@Param({"classic", "compact"})
+	public String format;
+
+	private JwtUtil jwtUtil;
+	private User user;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		jwtUtil = new JwtUtil();
+		ReflectionTestUtils.setField(jwtUtil, "secretKey",
+			Base64.getEncoder().encodeToString("benchmark-secret-key-which-needs-to-be-long-enough".getBytes()));
+		ReflectionTestUtils.setField(jwtUtil, "accessTokenExpireTime", 600000L);
+		ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpireTime", 1209600000L);
+		ReflectionTestUtils.setField(jwtUtil, "compactTokens", "compact".equals(format));
+		jwtUtil.init();
+
+		user = User.builder().id(123456L).username("benchmark-user").userRole(UserRole.USER).build();
+		token = jwtUtil.createAccessToken(user);
+		log.info("[{}] Authorization 헤더 크기: {} bytes", format,
+			(JwtUtil.BEARER_PREFIX + token).getBytes(StandardCharsets.US_ASCII).length);
+	}
+
+	@Benchmark
+	public String create() {
+		return jwtUtil.createAccessToken(user);
+	}
+
+	// 검증 캐시는 꺼 두었으므로 서명 검증과 디코딩 비용만 측정
+	@Benchmark
+	public TokenVerification verify() {
+		return jwtUtil.verify(token);
+	}
+}
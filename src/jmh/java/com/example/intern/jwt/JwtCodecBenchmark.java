@@ -0,0 +1,79 @@
+package com.example.intern.jwt;
+
+import com.example.intern.user.entity.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * jjwt 와 고정 스키마 코덱의 발급/검증 비용 비교.
+ * 할당량은 ./gradlew jmh -PjmhIncludes=JwtCodecBenchmark -PjmhProfilers=gc 의 gc.alloc.rate.norm 으로 확인한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtCodecBenchmark {
+
+	private Key key;
+	private JwtParser jwtParser;
+	private HmacSignatureVerifier verifier;
+	private FixedSchemaJwtCodec codec;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		key = Keys.hmacShaKeyFor("benchmark-secret-key-which-needs-to-be-long-enough".getBytes());
+		jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+		verifier = new HmacSignatureVerifier(key);
+		codec = new FixedSchemaJwtCodec(verifier);
+		token = jjwtEncode();
+	}
+
+	@Benchmark
+	public String jjwtEncode() {
+		Date now = new Date();
+		return Jwts.builder()
+			.setId("9f86d081-884c-4d63-9a2f-cd4e6b0d4a3e")
+			.setSubject("benchmark-user")
+			.setExpiration(new Date(now.getTime() + 600000))
+			.setIssuedAt(now)
+			.claim(JwtUtil.AUTHORIZATION_KEY, UserRole.USER)
+			.signWith(key, SignatureAlgorithm.HS256)
+			.compact();
+	}
+
+	@Benchmark
+	public String fixedSchemaEncode() {
+		long now = System.currentTimeMillis();
+		return codec.encode("9f86d081-884c-4d63-9a2f-cd4e6b0d4a3e", "benchmark-user", (now + 600000) / 1000, now / 1000,
+			UserRole.USER.name());
+	}
+
+	@Benchmark
+	public Claims jjwtVerify() {
+		return jwtParser.parseClaimsJws(token).getBody();
+	}
+
+	@Benchmark
+	public Claims fixedSchemaVerify() {
+		return verifier.verify(token) ? codec.decode(token) : null;
+	}
+}
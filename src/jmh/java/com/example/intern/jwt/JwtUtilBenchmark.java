@@ -0,0 +1,71 @@
+package com.example.intern.jwt;
+
+import com.example.intern.user.entity.UserRole;
+import io.jsonwebtoken.Claims;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JwtUtil 의 토큰 발급/검증 비용. tokenCacheBytes 가 0 이면 검증 캐시 없이 매번 서명을 검증한다.
+ * revokedTokens 는 폐기 목록에 미리 넣어 둘 다른 토큰 수로, 요청마다 하는 폐기 확인 비용을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+	@Param({"0", "33554432"})
+	long tokenCacheBytes;
+
+	@Param({"0", "100000"})
+	int revokedTokens;
+
+	private JwtUtil jwtUtil;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		jwtUtil = new JwtUtil();
+		jwtUtil.secretKey = Base64.getEncoder().encodeToString("benchmark-secret-key-which-needs-to-be-long-enough".getBytes());
+		jwtUtil.accessTokenExpireTime = 600000L;
+		jwtUtil.refreshTokenExpireTime = 1209600000L;
+		jwtUtil.tokenCacheMaximumBytes = tokenCacheBytes;
+		jwtUtil.init();
+		token = jwtUtil.createAccessToken("benchmark-user", UserRole.USER);
+
+		long expiresAt = System.currentTimeMillis() + 3600000L;
+		for (int i = 0; i < revokedTokens; i++) {
+			jwtUtil.getRevocationList().revokeToken(UUID.randomUUID().toString(), expiresAt);
+		}
+	}
+
+	@Benchmark
+	public String createAccessToken() {
+		return jwtUtil.createAccessToken("benchmark-user", UserRole.USER);
+	}
+
+	@Benchmark
+	public boolean validateToken() {
+		return jwtUtil.validateToken(token);
+	}
+
+	@Benchmark
+	public Claims getUserInfoFromToken() {
+		return jwtUtil.getUserInfoFromToken(token);
+	}
+}
@@ -0,0 +1,75 @@
+package com.example.intern.jwt;
+
+import com.example.intern.user.entity.UserRole;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.security.Key;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 잘못된 토큰이 들어왔을 때의 비용을 예외 기반 검증(legacy)과 결과 객체 기반 검증(verify)으로 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenVerificationBenchmark {
+
+	@Param({"garbage", "badSignature"})
+	String tokenKind;
+
+	private JwtUtil jwtUtil;
+	private Key key;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		jwtUtil = newJwtUtil("benchmark-secret-key-which-needs-to-be-long-enough");
+		key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(jwtUtil.secretKey));
+		token = switch (tokenKind) {
+			case "garbage" -> "invalid.token.here";
+			case "badSignature" -> newJwtUtil("attacker-secret-key-which-is-also-long-enough")
+				.createAccessToken("benchmark-user", UserRole.USER);
+			default -> throw new IllegalArgumentException(tokenKind);
+		};
+	}
+
+	@Benchmark
+	public boolean legacyExceptionPath() {
+		// 변경 전 validateToken 과 같은 방식: 매번 파서를 만들고 예외로 실패를 판단
+		try {
+			Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+			return true;
+		} catch (RuntimeException e) {
+			return false;
+		}
+	}
+
+	@Benchmark
+	public TokenVerification verify() {
+		return jwtUtil.verify(token);
+	}
+
+	static JwtUtil newJwtUtil(String key) {
+		JwtUtil jwtUtil = new JwtUtil();
+		jwtUtil.secretKey = Base64.getEncoder().encodeToString(key.getBytes());
+		jwtUtil.accessTokenExpireTime = 600000L;
+		jwtUtil.refreshTokenExpireTime = 1209600000L;
+		jwtUtil.init();
+		return jwtUtil;
+	}
+}
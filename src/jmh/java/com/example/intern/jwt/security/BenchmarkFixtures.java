@@ -0,0 +1,57 @@
+package com.example.intern.jwt.security;
+
+import com.example.intern.jwt.JwtUtil;
+import com.example.intern.user.entity.User;
+import com.example.intern.user.entity.UserRole;
+import com.example.intern.user.repository.UserRepository;
+import java.lang.reflect.Proxy;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.springframework.test.util.ReflectionTestUtils;
+
+final class BenchmarkFixtures {
+
+	static final String USERNAME = "benchmark-user";
+
+	private BenchmarkFixtures() {
+	}
+
+	static JwtUtil jwtUtil() {
+		String key = "benchmark-secret-key-which-needs-to-be-long-enough";
+		JwtUtil jwtUtil = new JwtUtil();
+		ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(key.getBytes()));
+		ReflectionTestUtils.setField(jwtUtil, "accessTokenExpireTime", 600000L);
+		ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpireTime", 1209600000L);
+		jwtUtil.init();
+		return jwtUtil;
+	}
+
+	static String expiredAccessToken(JwtUtil jwtUtil) {
+		ReflectionTestUtils.setField(jwtUtil, "accessTokenExpireTime", -1000L);
+		String token = jwtUtil.createAccessToken(USERNAME, UserRole.USER);
+		ReflectionTestUtils.setField(jwtUtil, "accessTokenExpireTime", 600000L);
+		return token;
+	}
+
+	static UserRepository userRepository(long latencyMicros) {
+		User user = User.builder()
+			.id(1L)
+			.username(USERNAME)
+			.password("encodedPassword")
+			.nickname("nickname")
+			.userRole(UserRole.USER)
+			.build();
+		return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+			new Class<?>[] {UserRepository.class}, (proxy, method, args) -> {
+				if (!method.getName().equals("findByUsername")) {
+					throw new UnsupportedOperationException(method.getName());
+				}
+				if (latencyMicros > 0) {
+					LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(latencyMicros));
+				}
+				return Optional.of(user);
+			});
+	}
+}
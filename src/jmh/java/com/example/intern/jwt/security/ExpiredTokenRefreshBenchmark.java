@@ -0,0 +1,63 @@
+package com.example.intern.jwt.security;
+
+import com.example.intern.global.metrics.AuthMetrics;
+import com.example.intern.jwt.JwtUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 만료된 액세스 토큰과 리프레시 쿠키를 가진 요청이 필터를 통과하는 지연 시간.
+ * 리프레시 토큰 검증, 새 액세스 토큰 서명, 인증 정보 설정까지 포함한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExpiredTokenRefreshBenchmark {
+
+	private JwtAuthorizationFilter filter;
+	private MockHttpServletRequest request;
+	private final FilterChain filterChain = (req, res) -> { };
+
+	@Setup
+	public void setUp() {
+		JwtUtil jwtUtil = BenchmarkFixtures.jwtUtil();
+		filter = new JwtAuthorizationFilter(jwtUtil,
+			new UserDetailServiceImpl(BenchmarkFixtures.userRepository(0), UserDetailsCache.disabled()), true,
+			AuthMetrics.noop());
+
+		request = new MockHttpServletRequest();
+		request.addHeader(JwtUtil.AUTHORIZATION_HEADER, JwtUtil.BEARER_PREFIX + BenchmarkFixtures.expiredAccessToken(jwtUtil));
+		request.setCookies(new Cookie(JwtUtil.REFRESH_HEADER, jwtUtil.createRefreshToken(BenchmarkFixtures.USERNAME)));
+	}
+
+	@TearDown(Level.Invocation)
+	public void clearContext() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Benchmark
+	public MockHttpServletResponse expiredTokenRequest() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, filterChain);
+		return response;
+	}
+}
@@ -0,0 +1,83 @@
+package com.example.intern.jwt.security;
+
+import com.example.intern.global.metrics.AuthMetrics;
+import com.example.intern.jwt.JwtUtil;
+import com.example.intern.user.entity.UserRole;
+import com.example.intern.user.repository.UserRepository;
+import jakarta.servlet.FilterChain;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 인증된 요청 한 건의 필터 처리량을 principal 구성 방식별로 비교한다.
+ * UserRepository 는 dbLatencyMicros 만큼 블로킹하는 스텁으로 DB 왕복을 흉내낸다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class JwtAuthorizationFilterBenchmark {
+
+	@Param({"false", "true"})
+	boolean statelessPrincipal;
+
+	@Param({"0", "200"})
+	long dbLatencyMicros;
+
+	private JwtAuthorizationFilter filter;
+	private String authorizationHeader;
+	private final FilterChain filterChain = (request, response) -> { };
+
+	@Setup
+	public void setUp() {
+		JwtUtil jwtUtil = BenchmarkFixtures.jwtUtil();
+		UserRepository userRepository = BenchmarkFixtures.userRepository(dbLatencyMicros);
+		filter = new JwtAuthorizationFilter(jwtUtil, new UserDetailServiceImpl(userRepository, UserDetailsCache.disabled()),
+			statelessPrincipal, AuthMetrics.noop());
+		authorizationHeader = JwtUtil.BEARER_PREFIX + jwtUtil.createAccessToken(BenchmarkFixtures.USERNAME, UserRole.USER);
+	}
+
+	@State(Scope.Thread)
+	public static class RequestState {
+
+		MockHttpServletRequest request;
+		MockHttpServletResponse response;
+
+		@Setup(Level.Iteration)
+		public void setUp(JwtAuthorizationFilterBenchmark benchmark) {
+			request = new MockHttpServletRequest();
+			request.addHeader(JwtUtil.AUTHORIZATION_HEADER, benchmark.authorizationHeader);
+			response = new MockHttpServletResponse();
+		}
+
+		@TearDown(Level.Invocation)
+		public void clearContext() {
+			SecurityContextHolder.clearContext();
+		}
+	}
+
+	@Benchmark
+	public Object authenticatedRequest(RequestState state) throws Exception {
+		filter.doFilter(state.request, state.response, filterChain);
+		return SecurityContextHolder.getContext().getAuthentication();
+	}
+}
@@ -0,0 +1,142 @@
+package com.example.intern.jwt.security;
+
+import com.example.intern.global.datasource.GatedDataSource;
+import com.example.intern.global.metrics.AuthMetrics;
+import com.example.intern.jwt.JwtUtil;
+import com.example.intern.user.entity.User;
+import com.example.intern.user.entity.UserRole;
+import com.example.intern.user.repository.UserRepository;
+import jakarta.servlet.FilterChain;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import javax.sql.DataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 플랫폼 스레드 풀(Tomcat 기본 200개)과 가상 스레드의 부하 비교.
+ * 한 번의 연산은 concurrentRequests 개의 인증 요청을 동시에 보내고 모두 끝날 때까지의 시간이다.
+ * 각 요청은 GatedDataSource 에서 커넥션 허가를 받고 dbLatencyMillis 만큼 블로킹하는 principal 조회를 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class VirtualThreadLoadBenchmark {
+
+	private static final int PLATFORM_THREADS = 200;
+
+	@Param({"platform", "virtual"})
+	public String mode;
+
+	@Param({"2000"})
+	public int concurrentRequests;
+
+	// 커넥션 풀 크기
+	@Param({"10", "100"})
+	public int dbPermits;
+
+	@Param({"2"})
+	public long dbLatencyMillis;
+
+	private ExecutorService executor;
+	private JwtAuthorizationFilter filter;
+	private String authorizationHeader;
+	private final FilterChain filterChain = (request, response) -> { };
+
+	@Setup
+	public void setUp() {
+		executor = "virtual".equals(mode)
+			? Executors.newVirtualThreadPerTaskExecutor()
+			: Executors.newFixedThreadPool(PLATFORM_THREADS);
+		GatedDataSource dataSource = new GatedDataSource(noopDataSource(), dbPermits, 60000);
+		JwtUtil jwtUtil = BenchmarkFixtures.jwtUtil();
+		filter = new JwtAuthorizationFilter(jwtUtil,
+			new UserDetailServiceImpl(gatedRepository(dataSource), UserDetailsCache.disabled()), false, AuthMetrics.noop());
+		authorizationHeader = JwtUtil.BEARER_PREFIX + jwtUtil.createAccessToken(BenchmarkFixtures.USERNAME, UserRole.USER);
+	}
+
+	@TearDown
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Benchmark
+	public int burst() throws Exception {
+		List<Future<Boolean>> futures = new ArrayList<>(concurrentRequests);
+		for (int i = 0; i < concurrentRequests; i++) {
+			futures.add(executor.submit(this::request));
+		}
+		int authenticated = 0;
+		for (Future<Boolean> future : futures) {
+			authenticated += future.get() ? 1 : 0;
+		}
+		return authenticated;
+	}
+
+	private boolean request() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(JwtUtil.AUTHORIZATION_HEADER, authorizationHeader);
+		try {
+			filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+			return SecurityContextHolder.getContext().getAuthentication() != null;
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+	}
+
+	private UserRepository gatedRepository(DataSource dataSource) {
+		User user = User.builder()
+			.id(1L)
+			.username(BenchmarkFixtures.USERNAME)
+			.password("encodedPassword")
+			.nickname("nickname")
+			.userRole(UserRole.USER)
+			.build();
+		return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+			new Class<?>[] {UserRepository.class}, (proxy, method, args) -> {
+				if (!method.getName().equals("findByUsername")) {
+					throw new UnsupportedOperationException(method.getName());
+				}
+				try (Connection ignored = dataSource.getConnection()) {
+					LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(dbLatencyMillis));
+				}
+				return Optional.of(user);
+			});
+	}
+
+	private static DataSource noopDataSource() {
+		Connection connection = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+			new Class<?>[] {Connection.class}, (proxy, method, args) -> null);
+		return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(),
+			new Class<?>[] {DataSource.class}, (proxy, method, args) -> {
+				if (method.getName().equals("getConnection")) {
+					return connection;
+				}
+				throw new UnsupportedOperationException(method.getName());
+			});
+	}
+}
@@ -0,0 +1,52 @@
+package com.example.intern.global.config;
+
+import com.example.intern.global.datasource.GatedDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled)에서 DataSource 앞에 동시 사용 한도를 둔다.
+ * 한도 기본값은 커넥션 풀 크기와 같아서, 풀을 기다리는 요청은 풀 안이 아니라 세마포어에서 줄을 선다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.gate.enabled", havingValue = "true")
+public class DataSourceGateConfig {
+
+	// BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 static 으로 등록하고 설정은 Environment 에서,
+	// MeterRegistry 는 DataSource 를 감쌀 때 ObjectProvider 로 꺼낸다
+	@Bean
+	public static BeanPostProcessor dataSourceGatePostProcessor(Environment environment,
+		ObjectProvider<MeterRegistry> meterRegistry) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (!(bean instanceof DataSource dataSource) || bean instanceof GatedDataSource) {
+					return bean;
+				}
+				int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+				int maxConcurrent = environment.getProperty("datasource.gate.max-concurrent", Integer.class, 0);
+				long timeoutMillis = environment.getProperty("datasource.gate.acquire-timeout-millis", Long.class, 5000L);
+				GatedDataSource gated = new GatedDataSource(dataSource, maxConcurrent > 0 ? maxConcurrent : poolSize,
+					timeoutMillis);
+				meterRegistry.ifAvailable(registry -> registerGauges(registry, gated, beanName));
+				return gated;
+			}
+		};
+	}
+
+	private static void registerGauges(MeterRegistry registry, GatedDataSource gated, String beanName) {
+		Gauge.builder("datasource.gate.waiting", gated, GatedDataSource::getWaitingThreads)
+			.tag("datasource", beanName)
+			.register(registry);
+		Gauge.builder("datasource.gate.available", gated, GatedDataSource::getAvailablePermits)
+			.tag("datasource", beanName)
+			.register(registry);
+	}
+}
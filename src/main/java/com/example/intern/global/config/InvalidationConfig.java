@@ -0,0 +1,35 @@
+package com.example.intern.global.config;
+
+import com.example.intern.global.invalidation.InProcessInvalidationBus;
+import com.example.intern.global.invalidation.InvalidationBus;
+import com.example.intern.global.invalidation.MulticastInvalidationBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class InvalidationConfig {
+
+	@Value("${invalidation.bus.type:in-process}")
+	private String busType;
+
+	@Value("${invalidation.bus.batch-window-millis:50}")
+	private long batchWindowMillis;
+
+	@Value("${invalidation.bus.multicast.group:239.255.27.1}")
+	private String multicastGroup;
+
+	@Value("${invalidation.bus.multicast.port:45566}")
+	private int multicastPort;
+
+	// 여러 인스턴스로 운영할 때는 multicast(또는 같은 인터페이스의 다른 구현)로 바꾼다
+	@Bean
+	public InvalidationBus invalidationBus(MeterRegistry meterRegistry) throws IOException {
+		if ("multicast".equalsIgnoreCase(busType)) {
+			return new MulticastInvalidationBus(multicastGroup, multicastPort, batchWindowMillis, meterRegistry);
+		}
+		return new InProcessInvalidationBus(batchWindowMillis, meterRegistry);
+	}
+}
@@ -1,15 +1,60 @@
 package com.example.intern.global.config;
 
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+@Slf4j(topic = "PasswordConfig")
 @Configuration
 public class PasswordConfig {
 
+	private static final String BCRYPT_ID = "bcrypt";
+	private static final int CALIBRATION_ROUNDS = 3;
+
+	// 해시 한 번에 허용하는 시간, 이 안에 들어오는 가장 높은 cost 를 사용
+	@Value("${password.bcrypt.hash-time-budget-millis:250}")
+	private long hashTimeBudgetMillis;
+
+	@Value("${password.bcrypt.min-strength:10}")
+	private int minStrength;
+
+	@Value("${password.bcrypt.max-strength:14}")
+	private int maxStrength;
+
+	/**
+	 * {bcrypt} 접두사를 붙여 저장하는 DelegatingPasswordEncoder.
+	 * 접두사 없이 저장된 기존 해시도 검증하며, upgradeEncoding 으로 재해싱 대상임을 알려준다.
+	 */
 	@Bean
 	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+		BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(calibrateStrength());
+		DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+		encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+		return encoder;
+	}
+
+	// 최소 cost 에서 해시 시간을 재고, cost 가 1 오를 때마다 시간이 두 배가 되는 것으로 계산
+	private int calibrateStrength() {
+		BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+		probe.encode("calibration");
+
+		long start = System.nanoTime();
+		for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+			probe.encode("calibration");
+		}
+		double baseMillis = (System.nanoTime() - start) / 1_000_000.0 / CALIBRATION_ROUNDS;
+
+		int strength = minStrength;
+		while (strength < maxStrength && baseMillis * (1L << (strength + 1 - minStrength)) <= hashTimeBudgetMillis) {
+			strength++;
+		}
+		log.info("BCrypt strength {} 선택 (cost {} 기준 {}ms, 예산 {}ms)", strength, minStrength,
+			String.format("%.1f", baseMillis), hashTimeBudgetMillis);
+		return strength;
 	}
 }
@@ -0,0 +1,24 @@
+package com.example.intern.global.config;
+
+import com.example.intern.global.dto.CommonResponseHttpMessageConverter;
+import com.example.intern.global.exception.ErrorResponseHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+	private final ObjectMapper objectMapper;
+
+	// 고정된 모양의 응답은 Jackson 보다 먼저 전용 컨버터로 쓴다
+	@Override
+	public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+		converters.add(0, new CommonResponseHttpMessageConverter(objectMapper));
+		converters.add(0, new ErrorResponseHttpMessageConverter());
+	}
+}
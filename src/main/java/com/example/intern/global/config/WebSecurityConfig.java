@@ -1,9 +1,11 @@
 package com.example.intern.global.config;
 
+import com.example.intern.global.metrics.AuthMetrics;
 import com.example.intern.jwt.JwtUtil;
 import com.example.intern.jwt.security.JwtAuthorizationFilter;
 import com.example.intern.jwt.security.UserDetailServiceImpl;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -24,6 +26,13 @@ public class WebSecurityConfig {
 
 	private final JwtUtil jwtUtil;
 	private final UserDetailServiceImpl userDetailService;
+	private final AuthMetrics authMetrics;
+
+	@Value("${jwt.stateless-principal:false}")
+	private boolean statelessPrincipal;
+
+	@Value("${server-timing.enabled:false}")
+	private boolean serverTimingEnabled;
 
 	@Bean
 	public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
@@ -32,7 +41,9 @@ public class WebSecurityConfig {
 
 	@Bean
 	public JwtAuthorizationFilter jwtAuthorizationFilter() {
-		return new JwtAuthorizationFilter(jwtUtil, userDetailService);
+		JwtAuthorizationFilter filter = new JwtAuthorizationFilter(jwtUtil, userDetailService, statelessPrincipal, authMetrics);
+		filter.setServerTimingEnabled(serverTimingEnabled);
+		return filter;
 	}
 
 	@Bean
@@ -45,6 +56,10 @@ public class WebSecurityConfig {
 
 			.authorizeHttpRequests(authorize -> authorize
 				.requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/h2-console/**").permitAll()
+				// 메트릭(/actuator/prometheus)은 사용자 수, 지연 분포 등이 드러나므로 인증을 요구하고 health 만 공개
+				.requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+				.requestMatchers(HttpMethod.GET, "/api/username/availability").permitAll()
+				.requestMatchers(HttpMethod.POST, "/api/logout", "/api/logout/all").authenticated()
 				.requestMatchers(HttpMethod.POST, "/api/**").permitAll()
 				.anyRequest().authenticated())
 
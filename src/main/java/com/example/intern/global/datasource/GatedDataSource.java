@@ -0,0 +1,136 @@
+package com.example.intern.global.datasource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 동시에 빌려 줄 수 있는 커넥션 수를 세마포어로 제한하는 DataSource.
+ * <p>
+ * 가상 스레드 모드에서는 수천 개의 요청이 한꺼번에 커넥션 풀로 몰릴 수 있다.
+ * 풀 앞에서 허가(permit)를 먼저 받게 해 대기를 공정한 FIFO 로 줄 세우고,
+ * 제한 시간 안에 받지 못하면 풀을 건드리지 않고 바로 실패시킨다. 허가는 커넥션을 close 할 때 돌려준다.
+ */
+public class GatedDataSource extends DelegatingDataSource {
+
+	private final Semaphore permits;
+	private final int maxConcurrent;
+	private final long acquireTimeoutMillis;
+
+	public GatedDataSource(DataSource targetDataSource, int maxConcurrent, long acquireTimeoutMillis) {
+		super(targetDataSource);
+		this.permits = new Semaphore(maxConcurrent, true);
+		this.maxConcurrent = maxConcurrent;
+		this.acquireTimeoutMillis = acquireTimeoutMillis;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		acquire();
+		try {
+			return gate(super.getConnection());
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		acquire();
+		try {
+			return gate(super.getConnection(username, password));
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	public int getMaxConcurrent() {
+		return maxConcurrent;
+	}
+
+	public int getAvailablePermits() {
+		return permits.availablePermits();
+	}
+
+	public int getWaitingThreads() {
+		return permits.getQueueLength();
+	}
+
+	private void acquire() throws SQLException {
+		try {
+			if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+				throw new SQLTransientConnectionException(
+					"DB 동시 사용 한도(" + maxConcurrent + ")를 " + acquireTimeoutMillis + "ms 안에 얻지 못했습니다.");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLTransientConnectionException("DB 커넥션 대기 중 인터럽트되었습니다.", e);
+		}
+	}
+
+	private Connection gate(Connection connection) {
+		return (Connection) Proxy.newProxyInstance(GatedDataSource.class.getClassLoader(),
+			new Class<?>[] {Connection.class}, new PermitReleasingHandler(connection));
+	}
+
+	// close 가 여러 번 불려도 허가는 한 번만 돌려준다
+	private class PermitReleasingHandler implements InvocationHandler {
+
+		private final Connection target;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		PermitReleasingHandler(Connection target) {
+			this.target = target;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			switch (method.getName()) {
+				case "close" -> {
+					try {
+						target.close();
+					} finally {
+						if (released.compareAndSet(false, true)) {
+							permits.release();
+						}
+					}
+					return null;
+				}
+				case "unwrap" -> {
+					if (((Class<?>) args[0]).isInstance(proxy)) {
+						return proxy;
+					}
+				}
+				case "isWrapperFor" -> {
+					if (((Class<?>) args[0]).isInstance(proxy)) {
+						return true;
+					}
+				}
+				case "equals" -> {
+					return proxy == args[0];
+				}
+				case "hashCode" -> {
+					return System.identityHashCode(proxy);
+				}
+				default -> {
+				}
+			}
+			try {
+				return method.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package com.example.intern.global.dto;
+
+import com.example.intern.global.util.Utf8Json;
+import com.example.intern.user.dto.UserResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * {@link CommonResponseDto} 전용 쓰기 컨버터. Jackson 과 같은 JSON 을 리플렉션 없이 응답 스트림에 바로 쓴다.
+ * <p>
+ * 필드 이름과 구분자, 상태 코드, 메시지(컨트롤러의 상수 문자열)는 UTF-8 바이트로 미리 인코딩해 재사용한다.
+ * data 가 null, String, Boolean, {@link UserResponseDto} 가 아니면 그 부분만 ObjectMapper 로 직렬화한다.
+ */
+public class CommonResponseHttpMessageConverter extends AbstractHttpMessageConverter<CommonResponseDto<?>> {
+
+	private static final int MAX_CACHED_MESSAGES = 256;
+	private static final byte[] STATUS_CODE = Utf8Json.ascii("{\"statusCode\":");
+	private static final byte[] MSG = Utf8Json.ascii(",\"msg\":");
+	private static final byte[] DATA = Utf8Json.ascii(",\"data\":");
+	private static final byte[] USERNAME = Utf8Json.ascii("{\"username\":");
+	private static final byte[] NICKNAME = Utf8Json.ascii(",\"nickname\":");
+	private static final byte[] AUTHORITY = Utf8Json.ascii(",\"authority\":");
+	private static final byte[] NULL = Utf8Json.ascii("null");
+	private static final byte[] TRUE = Utf8Json.ascii("true");
+	private static final byte[] FALSE = Utf8Json.ascii("false");
+	private static final byte[] END = Utf8Json.ascii("}");
+	private static final byte[][] STATUS_CODES = new byte[600][];
+
+	static {
+		for (int code = 100; code < STATUS_CODES.length; code++) {
+			STATUS_CODES[code] = Utf8Json.ascii(Integer.toString(code));
+		}
+	}
+
+	private final ObjectMapper objectMapper;
+	// msg -> 따옴표까지 인코딩한 바이트
+	private final ConcurrentHashMap<String, byte[]> messages = new ConcurrentHashMap<>();
+
+	public CommonResponseHttpMessageConverter(ObjectMapper objectMapper) {
+		super(MediaType.APPLICATION_JSON);
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return CommonResponseDto.class == clazz;
+	}
+
+	@Override
+	public boolean canRead(Class<?> clazz, MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	protected CommonResponseDto<?> readInternal(Class<? extends CommonResponseDto<?>> clazz, HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("CommonResponseDto 는 읽을 수 없습니다.", inputMessage);
+	}
+
+	@Override
+	protected void writeInternal(CommonResponseDto<?> response, HttpOutputMessage outputMessage) throws IOException {
+		OutputStream out = outputMessage.getBody();
+		out.write(STATUS_CODE);
+		writeStatusCode(out, response.getStatusCode());
+		out.write(MSG);
+		writeMessage(out, response.getMsg());
+		out.write(DATA);
+		writeData(out, response.getData());
+		out.write(END);
+	}
+
+	private static void writeStatusCode(OutputStream out, int statusCode) throws IOException {
+		if (statusCode >= 100 && statusCode < STATUS_CODES.length) {
+			out.write(STATUS_CODES[statusCode]);
+		} else {
+			out.write(Utf8Json.ascii(Integer.toString(statusCode)));
+		}
+	}
+
+	private void writeMessage(OutputStream out, String msg) throws IOException {
+		if (msg == null) {
+			out.write(NULL);
+			return;
+		}
+		byte[] encoded = messages.get(msg);
+		if (encoded == null) {
+			encoded = Utf8Json.quoted(msg);
+			if (messages.size() < MAX_CACHED_MESSAGES) {
+				messages.putIfAbsent(msg, encoded);
+			}
+		}
+		out.write(encoded);
+	}
+
+	private void writeData(OutputStream out, Object data) throws IOException {
+		if (data == null) {
+			out.write(NULL);
+		} else if (data instanceof String value) {
+			Utf8Json.writeString(out, value);
+		} else if (data instanceof Boolean value) {
+			out.write(value ? TRUE : FALSE);
+		} else if (data instanceof UserResponseDto user) {
+			out.write(USERNAME);
+			Utf8Json.writeString(out, user.getUsername());
+			out.write(NICKNAME);
+			Utf8Json.writeString(out, user.getNickname());
+			out.write(AUTHORITY);
+			Utf8Json.writeString(out, user.getAuthority());
+			out.write(END);
+		} else {
+			out.write(objectMapper.writeValueAsBytes(data));
+		}
+	}
+}
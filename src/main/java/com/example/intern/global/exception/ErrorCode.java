@@ -15,10 +15,13 @@ public enum ErrorCode {
 
 	// user-related errors
 	ALREADY_USERNAME(409, "해당 아이디는 이미 사용 중입니다."),
+	RESERVED_USERNAME(400, "'#' 으로 시작하는 아이디는 사용할 수 없습니다."),
 	INVALID_PASSWORD(404, "비밀번호가 일치하지 않습니다."),
+	INVALID_IMPORT_FORMAT(400, "가져올 파일의 형식이 올바르지 않습니다."),
 
 	// General error
-	FAIL(500, "실패하였습니다."), ;
+	FAIL(500, "실패하였습니다."),
+	SERVER_BUSY(503, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."), ;
 
 
 	private final int status;
@@ -0,0 +1,34 @@
+package com.example.intern.global.exception;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Locale;
+import org.springframework.stereotype.Component;
+
+/**
+ * ErrorCode 별 발생 횟수. 카운터는 주입받은 레지스트리에 미리 등록해 두고,
+ * GlobalException 은 new 로 생성되므로 정적 참조로 증가시킨다. 빈이 만들어지기 전(단위 테스트 등)에는 세지 않는다.
+ */
+@Component
+final class ErrorCodeCounters {
+
+	private static volatile Counter[] counters;
+
+	ErrorCodeCounters(MeterRegistry registry) {
+		Counter[] registered = new Counter[ErrorCode.values().length];
+		for (ErrorCode errorCode : ErrorCode.values()) {
+			registered[errorCode.ordinal()] = Counter.builder("app.errors")
+				.tag("code", errorCode.name().toLowerCase(Locale.ROOT))
+				.tag("status", String.valueOf(errorCode.getStatus()))
+				.register(registry);
+		}
+		counters = registered;
+	}
+
+	static void increment(ErrorCode errorCode) {
+		Counter[] current = counters;
+		if (current != null) {
+			current[errorCode.ordinal()].increment();
+		}
+	}
+}
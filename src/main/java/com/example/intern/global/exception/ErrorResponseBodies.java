@@ -0,0 +1,36 @@
+package com.example.intern.global.exception;
+
+import com.example.intern.global.util.Utf8Json;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ErrorCode 별 에러 응답 본문({@link ExceptionResponseDto} 와 같은 모양)을 미리 직렬화해 둔다.
+ * 요청마다 바뀌는 path 만 이스케이프해 이어 쓰므로 ObjectMapper 를 거치지 않는다.
+ */
+final class ErrorResponseBodies {
+
+	private static final byte[][] PREFIXES = new byte[ErrorCode.values().length][];
+	private static final byte[] SUFFIX = Utf8Json.ascii("\"}");
+
+	static {
+		for (ErrorCode errorCode : ErrorCode.values()) {
+			StringBuilder prefix = new StringBuilder("{\"msg\":\"");
+			Utf8Json.appendEscaped(prefix, errorCode.getMsg());
+			prefix.append("\",\"path\":\"");
+			PREFIXES[errorCode.ordinal()] = prefix.toString().getBytes(StandardCharsets.UTF_8);
+		}
+	}
+
+	private ErrorResponseBodies() {
+	}
+
+	static void write(OutputStream out, ErrorCode errorCode, String path) throws IOException {
+		out.write(PREFIXES[errorCode.ordinal()]);
+		if (path != null) {
+			Utf8Json.writeEscaped(out, path);
+		}
+		out.write(SUFFIX);
+	}
+}
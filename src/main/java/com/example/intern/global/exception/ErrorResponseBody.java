@@ -0,0 +1,24 @@
+package com.example.intern.global.exception;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 에러 응답 본문. {@link ErrorResponseHttpMessageConverter} 가 ErrorCode 별로 미리 인코딩한 바이트에 path 만 붙여
+ * 응답 스트림에 바로 쓴다. 컨버터가 없을 때 Jackson 이 쓰더라도 {@link ExceptionResponseDto} 와 같은 모양이 된다.
+ */
+@JsonPropertyOrder({"msg", "path"})
+public record ErrorResponseBody(@JsonIgnore ErrorCode errorCode, String path) {
+
+	@JsonProperty("msg")
+	public String msg() {
+		return errorCode.getMsg();
+	}
+
+	public void writeTo(OutputStream out) throws IOException {
+		ErrorResponseBodies.write(out, errorCode, path);
+	}
+}
@@ -0,0 +1,38 @@
+package com.example.intern.global.exception;
+
+import java.io.IOException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * {@link ErrorResponseBody} 를 응답 스트림에 바로 쓰는 쓰기 전용 컨버터.
+ */
+public class ErrorResponseHttpMessageConverter extends AbstractHttpMessageConverter<ErrorResponseBody> {
+
+	public ErrorResponseHttpMessageConverter() {
+		super(MediaType.APPLICATION_JSON);
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return ErrorResponseBody.class == clazz;
+	}
+
+	@Override
+	public boolean canRead(Class<?> clazz, MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	protected ErrorResponseBody readInternal(Class<? extends ErrorResponseBody> clazz, HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("ErrorResponseBody 는 읽을 수 없습니다.", inputMessage);
+	}
+
+	@Override
+	protected void writeInternal(ErrorResponseBody body, HttpOutputMessage outputMessage) throws IOException {
+		body.writeTo(outputMessage.getBody());
+	}
+}
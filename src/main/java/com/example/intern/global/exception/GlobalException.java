@@ -3,20 +3,57 @@ package com.example.intern.global.exception;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 비즈니스 예외. 흐름 제어용이므로 스택 트레이스를 만들지 않는다.
+ * {@link #of(ErrorCode)} 는 ErrorCode 별로 미리 만든 인스턴스를 돌려주고,
+ * debug 로그가 켜져 있을 때만 새로 만들어 던진 위치를 기록한다.
+ */
 @Slf4j(topic = "CustomException:: ")
 @Getter
 public class GlobalException extends RuntimeException{
+
+	private static final GlobalException[] SHARED = new GlobalException[ErrorCode.values().length];
+
+	static {
+		for (ErrorCode errorCode : ErrorCode.values()) {
+			SHARED[errorCode.ordinal()] = new GlobalException(errorCode, false);
+		}
+	}
+
 	private final ErrorCode errorCode;
 
 	public GlobalException(ErrorCode errorCode){
-		super(errorCode.getMsg());
+		this(errorCode, log.isDebugEnabled());
+		ErrorCodeCounters.increment(errorCode);
+		logDebug();
+	}
+
+	private GlobalException(ErrorCode errorCode, boolean writableStackTrace) {
+		super(errorCode.getMsg(), null, false, writableStackTrace);
 		this.errorCode = errorCode;
-		log.info("ExceptionMethod: {}", getExceptionMethod());
-		log.info("ErrorCode: {}", errorCode.getMsg());
 	}
+
+	public static GlobalException of(ErrorCode errorCode) {
+		if (log.isDebugEnabled()) {
+			return new GlobalException(errorCode);
+		}
+		ErrorCodeCounters.increment(errorCode);
+		return SHARED[errorCode.ordinal()];
+	}
+
+	// 스택 트레이스를 남긴 경우(debug)에만 호출 위치를 알 수 있다
 	public String getExceptionMethod(){
-		String className = Thread.currentThread().getStackTrace()[3].getClassName();
-		String methodName = Thread.currentThread().getStackTrace()[3].getMethodName();
-		return className + "." +methodName;
+		for (StackTraceElement element : getStackTrace()) {
+			if (!element.getClassName().equals(GlobalException.class.getName())) {
+				return element.getClassName() + "." + element.getMethodName();
+			}
+		}
+		return "unknown";
+	}
+
+	private void logDebug() {
+		if (log.isDebugEnabled()) {
+			log.debug("ExceptionMethod: {}, ErrorCode: {}", getExceptionMethod(), errorCode.getMsg());
+		}
 	}
 }
@@ -2,44 +2,51 @@ package com.example.intern.global.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.nio.file.AccessDeniedException;
-import org.springframework.http.HttpStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+@Slf4j(topic = "GlobalExceptionHandler")
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+	// SERVER_BUSY(503) 응답에 실어 보낼 재시도 대기 시간
+	@Value("${password.hashing.retry-after-seconds:1}")
+	private long retryAfterSeconds;
+
 	// 접근 거부 되었을 때 발생하는 예외처리
 	@ExceptionHandler(AccessDeniedException.class)
-	public ResponseEntity<ExceptionResponseDto> handleAccessDeniedException(HttpServletRequest request, AccessDeniedException e) {
-		e.printStackTrace();
-		ExceptionResponseDto exceptionResponseDto = ExceptionResponseDto.builder()
-			.msg(ErrorCode.ACCESS_DENIED.getMsg())
-			.path(request.getRequestURI())
-			.build();
-		return new ResponseEntity<>(exceptionResponseDto, HttpStatus.FORBIDDEN);
+	public ResponseEntity<ErrorResponseBody> handleAccessDeniedException(HttpServletRequest request, AccessDeniedException e) {
+		log.warn("Access denied: {} ({})", request.getRequestURI(), e.getMessage());
+		return errorResponse(ErrorCode.ACCESS_DENIED).body(errorBody(ErrorCode.ACCESS_DENIED, request));
 	}
 
 	// 기본 예외처리
 	@ExceptionHandler(Exception.class)
-	protected ResponseEntity<ExceptionResponseDto> handleDefaultException(HttpServletRequest request, Exception e) {
-		e.printStackTrace();
-		ExceptionResponseDto exceptionResponse = ExceptionResponseDto.builder()
-			.msg(ErrorCode.FAIL.getMsg())
-			.path(request.getRequestURI())
-			.build();
-		return new ResponseEntity<>(exceptionResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+	protected ResponseEntity<ErrorResponseBody> handleDefaultException(HttpServletRequest request, Exception e) {
+		log.error("Unhandled exception: {}", request.getRequestURI(), e);
+		return errorResponse(ErrorCode.FAIL).body(errorBody(ErrorCode.FAIL, request));
 	}
 
-	// 사용자 정의 예외처리
+	// 사용자 정의 예외처리, 본문은 ErrorCode 별로 미리 직렬화해 둔 것에 path 만 붙여 바로 쓴다
 	@ExceptionHandler(GlobalException.class)
-	public ResponseEntity<ExceptionResponseDto> handleGlobalException(HttpServletRequest request, GlobalException e) {
-		ExceptionResponseDto exceptionResponse = ExceptionResponseDto.builder()
-			.msg(e.getErrorCode().getMsg())
-			.path(request.getRequestURI())
-			.build();
-		return new ResponseEntity<>(exceptionResponse, HttpStatus.valueOf(e.getErrorCode().getStatus()));
+	public ResponseEntity<ErrorResponseBody> handleGlobalException(HttpServletRequest request, GlobalException e) {
+		ResponseEntity.BodyBuilder response = errorResponse(e.getErrorCode());
+		if (e.getErrorCode() == ErrorCode.SERVER_BUSY) {
+			response.header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+		}
+		return response.body(errorBody(e.getErrorCode(), request));
+	}
+
+	private static ResponseEntity.BodyBuilder errorResponse(ErrorCode errorCode) {
+		return ResponseEntity.status(errorCode.getStatus()).contentType(MediaType.APPLICATION_JSON);
 	}
 
+	private static ErrorResponseBody errorBody(ErrorCode errorCode, HttpServletRequest request) {
+		return new ErrorResponseBody(errorCode, request.getRequestURI());
+	}
 }
@@ -0,0 +1,68 @@
+package com.example.intern.global.executor;
+
+import com.example.intern.global.exception.ErrorCode;
+import com.example.intern.global.exception.GlobalException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * BCrypt 해싱처럼 CPU 를 오래 점유하는 작업을 서블릿 워커가 아닌 전용 스레드 풀에서 실행한다.
+ * 대기열이 가득 차면 작업을 쌓지 않고 SERVER_BUSY(503) 로 즉시 거절한다.
+ * 해싱 뒤에 이어지는 DB 작업, 토큰 발급은 해싱 스레드를 붙잡지 않도록 애플리케이션 작업 실행기에서 실행한다.
+ */
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+	private final ThreadPoolExecutor executor;
+	private Executor completionExecutor = ForkJoinPool.commonPool();
+
+	public PasswordHashingExecutor(
+		@Value("${password.hashing.pool-size:0}") int poolSize,
+		@Value("${password.hashing.queue-capacity:100}") int queueCapacity
+	) {
+		int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hashing-"),
+			new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	@Autowired(required = false)
+	public void setCompletionExecutor(@Qualifier("applicationTaskExecutor") Executor completionExecutor) {
+		this.completionExecutor = completionExecutor;
+	}
+
+	// 해싱(hashing)만 전용 풀에서 실행하고, 그 결과로 이어지는 작업(completion)은 다른 실행기로 넘긴다
+	public <T, R> CompletableFuture<R> submit(Supplier<T> hashing, Function<T, R> completion) {
+		return submit(hashing).thenApplyAsync(completion, completionExecutor);
+	}
+
+	public <T> CompletableFuture<T> submit(Supplier<T> task) {
+		try {
+			return CompletableFuture.supplyAsync(task, executor);
+		} catch (RejectedExecutionException e) {
+			throw GlobalException.of(ErrorCode.SERVER_BUSY);
+		}
+	}
+
+	public int getQueueDepth() {
+		return executor.getQueue().size();
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdown();
+	}
+}
@@ -0,0 +1,110 @@
+package com.example.intern.global.invalidation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * 발행된 이벤트를 batchWindow 동안 모았다가 한 번에 전송한다.
+ * 같은 (타입, key) 의 이벤트는 하나로 합치며, 사용자 단위 폐기는 더 늦은 폐기 시각을 남긴다.
+ * 수신 측에서는 발행 시각과 수신 시각의 차이를 전파 지연으로 기록한다 (노드 간 시계 차이가 포함된다).
+ */
+public abstract class BatchingInvalidationBus implements InvalidationBus, DisposableBean {
+
+	private static final Logger logger = LoggerFactory.getLogger(BatchingInvalidationBus.class);
+
+	private final Map<PendingKey, InvalidationEvent> pending = new ConcurrentHashMap<>();
+	private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
+	private final ScheduledExecutorService flusher;
+	private final Counter publishedCounter;
+	private final Counter coalescedCounter;
+	private final Counter receivedCounter;
+	private final Timer propagationLagTimer;
+
+	protected BatchingInvalidationBus(long batchWindowMillis, MeterRegistry registry, String busType) {
+		this.publishedCounter = Counter.builder("invalidation.events").tag("bus", busType).tag("result", "published")
+			.register(registry);
+		this.coalescedCounter = Counter.builder("invalidation.events").tag("bus", busType).tag("result", "coalesced")
+			.register(registry);
+		this.receivedCounter = Counter.builder("invalidation.events").tag("bus", busType).tag("result", "received")
+			.register(registry);
+		this.propagationLagTimer = Timer.builder("invalidation.propagation.lag").tag("bus", busType)
+			.publishPercentileHistogram()
+			.register(registry);
+		this.flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("invalidation-flush-"));
+		flusher.scheduleWithFixedDelay(this::flush, batchWindowMillis, Math.max(1, batchWindowMillis),
+			TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void publish(InvalidationEvent event) {
+		publishedCounter.increment();
+		pending.merge(new PendingKey(event.getType(), event.getKey()), event, (previous, current) -> {
+			coalescedCounter.increment();
+			return current.getValue() >= previous.getValue() ? current : previous;
+		});
+	}
+
+	@Override
+	public void subscribe(InvalidationListener listener) {
+		listeners.add(listener);
+	}
+
+	// 대기 중인 이벤트를 꺼내 전송. 꺼내는 도중 새로 들어온 이벤트는 다음 주기에 나간다
+	public void flush() {
+		if (pending.isEmpty()) {
+			return;
+		}
+		List<InvalidationEvent> batch = new ArrayList<>(pending.size());
+		for (PendingKey key : pending.keySet()) {
+			InvalidationEvent event = pending.remove(key);
+			if (event != null) {
+				batch.add(event);
+			}
+		}
+		try {
+			send(batch);
+		} catch (Exception e) {
+			logger.warn("무효화 이벤트 전송 실패 ({}건)", batch.size(), e);
+		}
+	}
+
+	protected abstract void send(List<InvalidationEvent> batch) throws Exception;
+
+	// 수신한 배치를 리스너에 전달
+	protected void deliver(List<InvalidationEvent> batch) {
+		long now = System.currentTimeMillis();
+		for (InvalidationEvent event : batch) {
+			receivedCounter.increment();
+			propagationLagTimer.record(Math.max(0, now - event.getPublishedAt()), TimeUnit.MILLISECONDS);
+			for (InvalidationListener listener : listeners) {
+				try {
+					listener.onInvalidation(event);
+				} catch (RuntimeException e) {
+					logger.warn("무효화 이벤트 처리 실패: {} {}", event.getType(), event.getKey(), e);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		flusher.shutdown();
+		flush();
+	}
+
+	private record PendingKey(InvalidationEvent.Type type, String key) {
+	}
+}
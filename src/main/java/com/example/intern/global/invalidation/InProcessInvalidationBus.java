@@ -0,0 +1,19 @@
+package com.example.intern.global.invalidation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+
+/**
+ * 단일 JVM 안에서만 전달하는 버스. 노드가 하나일 때의 기본값이다.
+ */
+public class InProcessInvalidationBus extends BatchingInvalidationBus {
+
+	public InProcessInvalidationBus(long batchWindowMillis, MeterRegistry registry) {
+		super(batchWindowMillis, registry, "in-process");
+	}
+
+	@Override
+	protected void send(List<InvalidationEvent> batch) {
+		deliver(batch);
+	}
+}
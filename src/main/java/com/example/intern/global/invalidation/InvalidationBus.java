@@ -0,0 +1,17 @@
+package com.example.intern.global.invalidation;
+
+/**
+ * 노드별 캐시와 폐기 목록을 클러스터 전체에 맞추기 위한 이벤트 버스.
+ * 발행한 노드는 변경을 이미 로컬에 반영했다고 가정하며, 리스너는 같은 이벤트를 여러 번 받아도 안전해야 한다.
+ */
+public interface InvalidationBus {
+
+	void publish(InvalidationEvent event);
+
+	void subscribe(InvalidationListener listener);
+
+	// 스프링 컨텍스트 밖(단위 테스트, 벤치마크)에서 쓰는 아무것도 전파하지 않는 버스
+	static InvalidationBus noop() {
+		return NoopInvalidationBus.INSTANCE;
+	}
+}
@@ -0,0 +1,39 @@
+package com.example.intern.global.invalidation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 노드 간에 전파하는 무효화 이벤트.
+ * value 는 타입별로 의미가 다르다: TOKEN_REVOKED 는 토큰 만료 시각, USER_TOKENS_REVOKED 는 폐기 시각(ms).
+ */
+@Getter
+@RequiredArgsConstructor
+public class InvalidationEvent {
+
+	public enum Type {
+		// 사용자 정보 변경 (UserDetails 캐시 무효화)
+		USER_CHANGED,
+		// 토큰 하나 폐기 (key = jti 또는 불투명 토큰)
+		TOKEN_REVOKED,
+		// 사용자의 모든 토큰 폐기 (key = username)
+		USER_TOKENS_REVOKED
+	}
+
+	private final Type type;
+	private final String key;
+	private final long value;
+	private final long publishedAt;
+
+	public static InvalidationEvent userChanged(String username) {
+		return new InvalidationEvent(Type.USER_CHANGED, username, 0, System.currentTimeMillis());
+	}
+
+	public static InvalidationEvent tokenRevoked(String tokenKey, long expiresAtMillis) {
+		return new InvalidationEvent(Type.TOKEN_REVOKED, tokenKey, expiresAtMillis, System.currentTimeMillis());
+	}
+
+	public static InvalidationEvent userTokensRevoked(String username, long revokedAtMillis) {
+		return new InvalidationEvent(Type.USER_TOKENS_REVOKED, username, revokedAtMillis, System.currentTimeMillis());
+	}
+}
@@ -0,0 +1,7 @@
+package com.example.intern.global.invalidation;
+
+@FunctionalInterface
+public interface InvalidationListener {
+
+	void onInvalidation(InvalidationEvent event);
+}
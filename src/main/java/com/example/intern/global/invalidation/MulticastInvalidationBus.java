@@ -0,0 +1,141 @@
+package com.example.intern.global.invalidation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MulticastSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * UDP 멀티캐스트로 같은 네트워크의 다른 노드에 전파하는 버스.
+ * 메시지 브로커 없이 로컬 환경과 테스트에서 여러 노드를 흉내 내기 위한 구현으로, 전달을 보장하지 않는다.
+ * 유실되더라도 각 캐시의 TTL 과 토큰 만료가 상한이 된다.
+ */
+public class MulticastInvalidationBus extends BatchingInvalidationBus {
+
+	private static final Logger logger = LoggerFactory.getLogger(MulticastInvalidationBus.class);
+	static final int MAX_DATAGRAM_BYTES = 1400;
+	private static final long RECEIVE_RETRY_BACKOFF_MILLIS = 1000;
+	private static final InvalidationEvent.Type[] TYPES = InvalidationEvent.Type.values();
+
+	private final String nodeId = UUID.randomUUID().toString();
+	private final InetSocketAddress group;
+	private final MulticastSocket socket;
+	private final Thread receiver;
+
+	public MulticastInvalidationBus(String groupAddress, int port, long batchWindowMillis, MeterRegistry registry)
+		throws IOException {
+		super(batchWindowMillis, registry, "multicast");
+		this.group = new InetSocketAddress(InetAddress.getByName(groupAddress), port);
+		this.socket = new MulticastSocket(port);
+		socket.joinGroup(group, null);
+		this.receiver = new Thread(this::receiveLoop, "invalidation-multicast-receiver");
+		receiver.setDaemon(true);
+		receiver.start();
+	}
+
+	public String getNodeId() {
+		return nodeId;
+	}
+
+	@Override
+	protected void send(List<InvalidationEvent> batch) throws IOException {
+		for (byte[] bytes : encode(nodeId, batch)) {
+			socket.send(new DatagramPacket(bytes, bytes.length, group));
+		}
+	}
+
+	private void receiveLoop() {
+		byte[] bytes = new byte[64 * 1024];
+		while (!socket.isClosed()) {
+			DatagramPacket packet = new DatagramPacket(bytes, bytes.length);
+			try {
+				socket.receive(packet);
+				List<InvalidationEvent> batch = decode(nodeId, packet.getData(), packet.getOffset(), packet.getLength());
+				if (batch != null) {
+					deliver(batch);
+				}
+			} catch (IOException | RuntimeException e) {
+				// destroy 에서 소켓을 닫으면 종료, 그 밖의 실패는 잠시 쉬었다가 다시 수신
+				if (socket.isClosed()) {
+					return;
+				}
+				logger.warn("무효화 이벤트 수신 실패", e);
+				try {
+					Thread.sleep(RECEIVE_RETRY_BACKOFF_MILLIS);
+				} catch (InterruptedException interrupted) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	// 데이터그램 하나에 들어가는 만큼씩 나누어 인코딩
+	static List<byte[]> encode(String nodeId, List<InvalidationEvent> batch) throws IOException {
+		List<byte[]> datagrams = new ArrayList<>();
+		int headerSize = 2 + nodeId.length() * 3 + 2;
+		List<InvalidationEvent> chunk = new ArrayList<>();
+		int size = headerSize;
+		for (InvalidationEvent event : batch) {
+			int eventSize = 1 + 2 + event.getKey().length() * 3 + 8 + 8;
+			if (!chunk.isEmpty() && size + eventSize > MAX_DATAGRAM_BYTES) {
+				datagrams.add(encodeChunk(nodeId, chunk));
+				chunk.clear();
+				size = headerSize;
+			}
+			chunk.add(event);
+			size += eventSize;
+		}
+		if (!chunk.isEmpty()) {
+			datagrams.add(encodeChunk(nodeId, chunk));
+		}
+		return datagrams;
+	}
+
+	private static byte[] encodeChunk(String nodeId, List<InvalidationEvent> chunk) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream(MAX_DATAGRAM_BYTES);
+		DataOutputStream out = new DataOutputStream(buffer);
+		out.writeUTF(nodeId);
+		out.writeShort(chunk.size());
+		for (InvalidationEvent event : chunk) {
+			out.writeByte(event.getType().ordinal());
+			out.writeUTF(event.getKey());
+			out.writeLong(event.getValue());
+			out.writeLong(event.getPublishedAt());
+		}
+		out.flush();
+		return buffer.toByteArray();
+	}
+
+	// 자기 자신이 보낸 데이터그램(루프백)은 무시
+	static List<InvalidationEvent> decode(String selfNodeId, byte[] data, int offset, int length) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, offset, length));
+		if (selfNodeId.equals(in.readUTF())) {
+			return null;
+		}
+		int count = in.readUnsignedShort();
+		List<InvalidationEvent> batch = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			InvalidationEvent.Type type = TYPES[in.readUnsignedByte()];
+			batch.add(new InvalidationEvent(type, in.readUTF(), in.readLong(), in.readLong()));
+		}
+		return batch;
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		super.destroy();
+		socket.close();
+	}
+}
@@ -0,0 +1,17 @@
+package com.example.intern.global.invalidation;
+
+final class NoopInvalidationBus implements InvalidationBus {
+
+	static final NoopInvalidationBus INSTANCE = new NoopInvalidationBus();
+
+	private NoopInvalidationBus() {
+	}
+
+	@Override
+	public void publish(InvalidationEvent event) {
+	}
+
+	@Override
+	public void subscribe(InvalidationListener listener) {
+	}
+}
@@ -0,0 +1,88 @@
+package com.example.intern.global.metrics;
+
+import com.example.intern.jwt.TokenVerification;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 파이프라인의 구간별 지연 시간 타이머.
+ * 모든 타이머는 생성 시점에 미리 등록해 두고, 요청 경로에서는 배열 조회 후 record 만 호출한다.
+ */
+@Component
+public class AuthMetrics {
+
+	public enum FilterOutcome {
+		VALID, EXPIRED_REFRESHED, EXPIRED_REJECTED, INVALID
+	}
+
+	public enum PasswordOperation {
+		ENCODE, MATCHES
+	}
+
+	private final Timer tokenCreateTimer;
+	private final Timer[] tokenVerifyTimers;
+	private final Timer[] filterTimers;
+	private final Timer[] passwordTimers;
+
+	public AuthMetrics(MeterRegistry registry) {
+		this.tokenCreateTimer = timer(registry, "auth.token.create", "type", "jwt");
+
+		TokenVerification.Status[] statuses = TokenVerification.Status.values();
+		this.tokenVerifyTimers = new Timer[statuses.length];
+		for (TokenVerification.Status status : statuses) {
+			tokenVerifyTimers[status.ordinal()] = timer(registry, "auth.token.verify", "result", tagValue(status));
+		}
+
+		FilterOutcome[] outcomes = FilterOutcome.values();
+		this.filterTimers = new Timer[outcomes.length];
+		for (FilterOutcome outcome : outcomes) {
+			filterTimers[outcome.ordinal()] = timer(registry, "auth.filter", "outcome", tagValue(outcome));
+		}
+
+		PasswordOperation[] operations = PasswordOperation.values();
+		this.passwordTimers = new Timer[operations.length];
+		for (PasswordOperation operation : operations) {
+			passwordTimers[operation.ordinal()] = timer(registry, "auth.password.hash", "operation", tagValue(operation));
+		}
+	}
+
+	// 스프링 컨텍스트 밖(단위 테스트, 벤치마크)에서 쓰는 기록하지 않는 인스턴스
+	public static AuthMetrics noop() {
+		return new AuthMetrics(new CompositeMeterRegistry());
+	}
+
+	public void recordTokenCreate(long startNanos) {
+		record(tokenCreateTimer, startNanos);
+	}
+
+	public void recordTokenVerify(TokenVerification.Status status, long startNanos) {
+		record(tokenVerifyTimers[status.ordinal()], startNanos);
+	}
+
+	public void recordFilter(FilterOutcome outcome, long startNanos) {
+		record(filterTimers[outcome.ordinal()], startNanos);
+	}
+
+	public void recordPasswordHash(PasswordOperation operation, long startNanos) {
+		record(passwordTimers[operation.ordinal()], startNanos);
+	}
+
+	private static void record(Timer timer, long startNanos) {
+		timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+	}
+
+	private static Timer timer(MeterRegistry registry, String name, String tagKey, String tagValue) {
+		return Timer.builder(name)
+			.tag(tagKey, tagValue)
+			.publishPercentileHistogram()
+			.register(registry);
+	}
+
+	private static String tagValue(Enum<?> value) {
+		return value.name().toLowerCase(Locale.ROOT);
+	}
+}
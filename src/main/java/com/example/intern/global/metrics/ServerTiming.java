@@ -0,0 +1,109 @@
+package com.example.intern.global.metrics;
+
+/**
+ * 요청 한 건의 구간별 처리 시간을 모아 Server-Timing 헤더 값으로 만든다.
+ * 인스턴스는 스레드별로 재사용하며, 기능이 꺼져 있으면 current() 가 null 이므로 기록 비용이 없다.
+ */
+public final class ServerTiming {
+
+	public static final String HEADER = "Server-Timing";
+
+	public enum Phase {
+		TOKEN("token"), VERIFY("verify"), REFRESH("refresh"), PRINCIPAL("principal"), PASSWORD("password"),
+		HANDLER("handler");
+
+		private final String metricName;
+
+		Phase(String metricName) {
+			this.metricName = metricName;
+		}
+	}
+
+	private static final Phase[] PHASES = Phase.values();
+	private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+	private static final ThreadLocal<ServerTiming> POOL = ThreadLocal.withInitial(ServerTiming::new);
+
+	private final long[] durations = new long[PHASES.length];
+	private final StringBuilder header = new StringBuilder(128);
+	private long handlerStart;
+
+	private ServerTiming() {
+	}
+
+	// 현재 스레드의 재사용 인스턴스를 초기화하고 요청에 연결
+	public static ServerTiming begin() {
+		ServerTiming timing = POOL.get();
+		timing.reset();
+		CURRENT.set(timing);
+		return timing;
+	}
+
+	// 비동기로 넘어간 요청은 응답이 나중에 쓰이므로 인스턴스를 풀에서 떼어 낸다
+	public static void end(boolean detach) {
+		CURRENT.remove();
+		if (detach) {
+			POOL.remove();
+		}
+	}
+
+	public static ServerTiming current() {
+		return CURRENT.get();
+	}
+
+	// 현재 요청에 Server-Timing 이 켜져 있을 때만 기록
+	public static void addToCurrent(Phase phase, long startNanos) {
+		ServerTiming timing = CURRENT.get();
+		if (timing != null) {
+			timing.add(phase, System.nanoTime() - startNanos);
+		}
+	}
+
+	public void add(Phase phase, long nanos) {
+		durations[phase.ordinal()] += nanos;
+	}
+
+	public void startHandler() {
+		handlerStart = System.nanoTime();
+	}
+
+	public String toHeaderValue() {
+		if (handlerStart != 0) {
+			durations[Phase.HANDLER.ordinal()] = System.nanoTime() - handlerStart;
+			handlerStart = 0;
+		}
+		header.setLength(0);
+		for (Phase phase : PHASES) {
+			long nanos = durations[phase.ordinal()];
+			if (nanos == 0 && phase != Phase.HANDLER) {
+				continue;
+			}
+			if (!header.isEmpty()) {
+				header.append(", ");
+			}
+			header.append(phase.metricName).append(";dur=");
+			appendMillis(nanos);
+		}
+		return header.toString();
+	}
+
+	private void reset() {
+		for (int i = 0; i < durations.length; i++) {
+			durations[i] = 0;
+		}
+		handlerStart = 0;
+	}
+
+	// 나노초를 소수점 셋째 자리까지의 밀리초로 기록 (String.format 을 쓰지 않음)
+	private void appendMillis(long nanos) {
+		long micros = nanos / 1_000;
+		long fraction = micros % 1_000;
+		header.append(micros / 1_000).append('.');
+		if (fraction < 100) {
+			header.append('0');
+		}
+		if (fraction < 10) {
+			header.append('0');
+		}
+		header.append(fraction);
+	}
+}
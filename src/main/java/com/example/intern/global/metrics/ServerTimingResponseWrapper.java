@@ -0,0 +1,67 @@
+package com.example.intern.global.metrics;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * 본문을 쓰기 시작하거나 응답이 커밋되기 직전에 Server-Timing 헤더를 한 번 붙인다.
+ */
+public class ServerTimingResponseWrapper extends HttpServletResponseWrapper {
+
+	private final ServerTiming timing;
+	private boolean attached;
+
+	public ServerTimingResponseWrapper(HttpServletResponse response, ServerTiming timing) {
+		super(response);
+		this.timing = timing;
+	}
+
+	public void attachServerTiming() {
+		if (attached) {
+			return;
+		}
+		attached = true;
+		if (!isCommitted()) {
+			setHeader(ServerTiming.HEADER, timing.toHeaderValue());
+		}
+	}
+
+	@Override
+	public ServletOutputStream getOutputStream() throws IOException {
+		attachServerTiming();
+		return super.getOutputStream();
+	}
+
+	@Override
+	public PrintWriter getWriter() throws IOException {
+		attachServerTiming();
+		return super.getWriter();
+	}
+
+	@Override
+	public void flushBuffer() throws IOException {
+		attachServerTiming();
+		super.flushBuffer();
+	}
+
+	@Override
+	public void sendError(int sc) throws IOException {
+		attachServerTiming();
+		super.sendError(sc);
+	}
+
+	@Override
+	public void sendError(int sc, String msg) throws IOException {
+		attachServerTiming();
+		super.sendError(sc, msg);
+	}
+
+	@Override
+	public void sendRedirect(String location) throws IOException {
+		attachServerTiming();
+		super.sendRedirect(location);
+	}
+}
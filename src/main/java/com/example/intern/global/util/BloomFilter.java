@@ -0,0 +1,65 @@
+package com.example.intern.global.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 잠금 없는 Bloom 필터. 비트는 AtomicLongArray 에 CAS 로 세팅하고, 조회는 평범한 읽기만 한다.
+ * 없다고 답하면 확실히 없고, 있다고 답하면 설정한 오탐률 안에서 있을 수도 있다.
+ * 하나의 필터에 여러 종류의 키를 담을 때는 종류마다 다른 seed 를 쓴다.
+ */
+public class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitMask;
+	private final int hashCount;
+
+	public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+		long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		long bitCount = Long.highestOneBit(Math.max(64, optimalBits - 1)) << 1;
+		this.bits = new AtomicLongArray((int) (bitCount >>> 6));
+		this.bitMask = bitCount - 1;
+		this.hashCount = Math.max(1, (int) Math.round(-Math.log(falsePositiveRate) / Math.log(2)));
+	}
+
+	public void put(String key, long seed) {
+		long hash = hash(key, seed);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			long bit = (h1 + (long) i * h2) & bitMask;
+			int index = (int) (bit >>> 6);
+			long mask = 1L << bit;
+			long word = bits.get(index);
+			while ((word & mask) == 0 && !bits.compareAndSet(index, word, word | mask)) {
+				word = bits.get(index);
+			}
+		}
+	}
+
+	public boolean mightContain(String key, long seed) {
+		long hash = hash(key, seed);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			long bit = (h1 + (long) i * h2) & bitMask;
+			if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// FNV-1a 로 문자를 섞고 murmur3 fmix64 로 마무리 (문자열 복사 없이 계산)
+	private static long hash(String key, long seed) {
+		long hash = seed;
+		for (int i = 0; i < key.length(); i++) {
+			hash = (hash ^ key.charAt(i)) * 0x100000001B3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		hash *= 0xC4CEB9FE1A85EC53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
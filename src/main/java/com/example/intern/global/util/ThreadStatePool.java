@@ -0,0 +1,39 @@
+package com.example.intern.global.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * 스레드마다 재사용하던 작업 객체(Mac, 버퍼 등)를 가상 스레드에서도 재사용하기 위한 풀.
+ * <p>
+ * 플랫폼 스레드는 지금처럼 ThreadLocal 에 하나씩 둔다. 가상 스레드는 요청마다 새로 만들어지므로
+ * ThreadLocal 에 두면 매번 새로 만들게 되어, 대신 공유 풀에서 빌리고 돌려준다.
+ * acquire 와 release 사이에서는 블로킹하지 않아야 풀 크기(캐리어 수 정도)로 충분하다.
+ */
+public final class ThreadStatePool<T> {
+
+	private final Supplier<T> factory;
+	private final ThreadLocal<T> platformStates;
+	private final ArrayBlockingQueue<T> virtualStates;
+
+	public ThreadStatePool(Supplier<T> factory) {
+		this.factory = factory;
+		this.platformStates = ThreadLocal.withInitial(factory);
+		this.virtualStates = new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors() * 2);
+	}
+
+	public T acquire() {
+		if (!Thread.currentThread().isVirtual()) {
+			return platformStates.get();
+		}
+		T state = virtualStates.poll();
+		return state != null ? state : factory.get();
+	}
+
+	// 플랫폼 스레드에서는 아무것도 하지 않는다. 풀이 가득 차면 버린다
+	public void release(T state) {
+		if (Thread.currentThread().isVirtual()) {
+			virtualStates.offer(state);
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package com.example.intern.global.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 고정된 형태의 JSON 응답을 UTF-8 바이트로 직접 쓰기 위한 도구.
+ * 상수 부분은 미리 인코딩해 두고, 요청마다 바뀌는 문자열만 이스케이프해 쓴다. 이스케이프 방식은 Jackson 기본 설정과 같다.
+ */
+public final class Utf8Json {
+
+	private static final byte[] NULL = ascii("null");
+
+	private Utf8Json() {
+	}
+
+	public static byte[] ascii(String value) {
+		return value.getBytes(StandardCharsets.US_ASCII);
+	}
+
+	// 따옴표로 감싼 JSON 문자열을 미리 인코딩 (상수 메시지용)
+	public static byte[] quoted(String value) {
+		StringBuilder out = new StringBuilder(value.length() + 2).append('"');
+		appendEscaped(out, value);
+		return out.append('"').toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	// 따옴표 없이 이스케이프한 값만 쓴다. 이스케이프할 문자가 없으면 바로 인코딩한다
+	public static void writeEscaped(OutputStream out, String value) throws IOException {
+		if (!needsEscaping(value)) {
+			out.write(value.getBytes(StandardCharsets.UTF_8));
+			return;
+		}
+		StringBuilder escaped = new StringBuilder(value.length() + 8);
+		appendEscaped(escaped, value);
+		out.write(escaped.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	// null 이면 null 리터럴
+	public static void writeString(OutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.write(NULL);
+			return;
+		}
+		out.write('"');
+		writeEscaped(out, value);
+		out.write('"');
+	}
+
+	public static void appendEscaped(StringBuilder out, String value) {
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"' -> out.append("\\\"");
+				case '\\' -> out.append("\\\\");
+				case '\n' -> out.append("\\n");
+				case '\r' -> out.append("\\r");
+				case '\t' -> out.append("\\t");
+				case '\b' -> out.append("\\b");
+				case '\f' -> out.append("\\f");
+				default -> {
+					if (c < 0x20) {
+						out.append(String.format("\\u%04X", (int) c));
+					} else {
+						out.append(c);
+					}
+				}
+			}
+		}
+	}
+
+	private static boolean needsEscaping(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\' || c < 0x20) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
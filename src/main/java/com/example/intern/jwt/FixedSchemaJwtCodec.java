@@ -0,0 +1,369 @@
+package com.example.intern.jwt;
+
+import com.example.intern.global.util.ThreadStatePool;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * 이 서비스가 발급하는 고정된 형태의 HS256 토큰 전용 인코더/디코더.
+ * <p>
+ * 헤더는 항상 {"alg":"HS256"} (키 링을 쓰면 kid 포함), 클레임은 jti, sub, exp, iat, iatms, auth(선택) 순서의 평평한 JSON 이므로
+ * Jackson Map 과 jjwt 의 중간 객체 없이 재사용 버퍼 위에서 바로 읽고 쓴다. 만들어지는 토큰은 jjwt 로 만든 것과 호환된다.
+ * 압축 형식(jwt.compact-tokens) 토큰은 sub/auth 대신 uid/r 숫자 클레임을 쓴다.
+ * 형태가 조금이라도 다른 토큰(다른 헤더, 모르는 클레임, 이스케이프된 문자열 등)은 null 을 돌려 jjwt 로 처리하게 한다.
+ */
+class FixedSchemaJwtCodec {
+
+	// {"alg":"HS256"} 를 Base64URL 로 인코딩한 값
+	static final String HEADER_SEGMENT = "eyJhbGciOiJIUzI1NiJ9";
+
+	private static final byte[] DECODE = new byte[128];
+	private static final byte[][] KEYS = {
+		Claims.ID.getBytes(StandardCharsets.US_ASCII),
+		Claims.SUBJECT.getBytes(StandardCharsets.US_ASCII),
+		Claims.EXPIRATION.getBytes(StandardCharsets.US_ASCII),
+		Claims.ISSUED_AT.getBytes(StandardCharsets.US_ASCII),
+		JwtUtil.AUTHORIZATION_KEY.getBytes(StandardCharsets.US_ASCII),
+		JwtUtil.USER_ID_KEY.getBytes(StandardCharsets.US_ASCII),
+		JwtUtil.ROLE_ORDINAL_KEY.getBytes(StandardCharsets.US_ASCII),
+		JwtUtil.ISSUED_AT_MILLIS_KEY.getBytes(StandardCharsets.US_ASCII)
+	};
+	private static final int JTI = 0;
+	private static final int SUB = 1;
+	private static final int EXP = 2;
+	private static final int IAT = 3;
+	private static final int AUTH = 4;
+	private static final int UID = 5;
+	private static final int ROLE_ORDINAL = 6;
+	private static final int IAT_MILLIS = 7;
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	static {
+		Arrays.fill(DECODE, (byte) -1);
+		for (int i = 0; i < HmacSignatureVerifier.BASE64_URL.length; i++) {
+			DECODE[HmacSignatureVerifier.BASE64_URL[i]] = (byte) i;
+		}
+	}
+
+	private final HmacSignatureVerifier signer;
+	private final String headerSegment;
+	private final ThreadStatePool<Buffers> buffers = new ThreadStatePool<>(Buffers::new);
+
+	FixedSchemaJwtCodec(HmacSignatureVerifier signer) {
+		this(signer, HEADER_SEGMENT);
+	}
+
+	// kid 가 들어간 헤더를 쓰는 키용
+	FixedSchemaJwtCodec(HmacSignatureVerifier signer, String headerSegment) {
+		this.signer = signer;
+		this.headerSegment = headerSegment;
+	}
+
+	String encode(String tokenId, String subject, long expiresAtSeconds, long issuedAtMillis, String role) {
+		Buffers buffer = buffers.acquire();
+		try {
+			buffer.length = 0;
+			buffer.append("{\"jti\":\"").appendString(tokenId)
+				.append("\",\"sub\":\"").appendString(subject)
+				.append("\",\"exp\":").appendLong(expiresAtSeconds)
+				.append(",\"iat\":").appendLong(issuedAtMillis / 1000)
+				.append(",\"iatms\":").appendLong(issuedAtMillis);
+			if (role != null) {
+				buffer.append(",\"auth\":\"").appendString(role).append("\"");
+			}
+			buffer.append("}");
+			return sign(buffer);
+		} finally {
+			buffers.release(buffer);
+		}
+	}
+
+	/**
+	 * 압축 형식: username 대신 숫자 사용자 id(uid), 역할 이름 대신 ordinal(r).
+	 * {"jti":"..","uid":1,"exp":..,"iat":..,"iatms":..,"r":0}
+	 */
+	String encodeCompact(String tokenId, long userId, long expiresAtSeconds, long issuedAtMillis, int roleOrdinal) {
+		Buffers buffer = buffers.acquire();
+		try {
+			buffer.length = 0;
+			buffer.append("{\"jti\":\"").appendString(tokenId)
+				.append("\",\"uid\":").appendLong(userId)
+				.append(",\"exp\":").appendLong(expiresAtSeconds)
+				.append(",\"iat\":").appendLong(issuedAtMillis / 1000)
+				.append(",\"iatms\":").appendLong(issuedAtMillis);
+			if (roleOrdinal >= 0) {
+				buffer.append(",\"r\":").appendLong(roleOrdinal);
+			}
+			buffer.append("}");
+			return sign(buffer);
+		} finally {
+			buffers.release(buffer);
+		}
+	}
+
+	private String sign(Buffers buffer) {
+		int headerLength = headerSegment.length();
+		int payloadLength = (buffer.length * 4 + 2) / 3;
+		int signingLength = headerLength + 1 + payloadLength;
+		char[] chars = buffer.chars(signingLength + 1 + HmacSignatureVerifier.SIGNATURE_LENGTH);
+		headerSegment.getChars(0, headerLength, chars, 0);
+		chars[headerLength] = '.';
+		HmacSignatureVerifier.encodeBase64Url(buffer.json, buffer.length, chars, headerLength + 1);
+
+		byte[] signingInput = buffer.ascii(signingLength);
+		for (int i = 0; i < signingLength; i++) {
+			signingInput[i] = (byte) chars[i];
+		}
+		chars[signingLength] = '.';
+		signer.sign(signingInput, signingLength).getChars(0, HmacSignatureVerifier.SIGNATURE_LENGTH, chars, signingLength + 1);
+		return new String(chars, 0, signingLength + 1 + HmacSignatureVerifier.SIGNATURE_LENGTH);
+	}
+
+	/**
+	 * 서명 검증을 마친 토큰의 클레임을 읽는다. 고정 스키마가 아니면 null.
+	 * 만료 여부는 호출하는 쪽에서 판단한다.
+	 */
+	Claims decode(String token) {
+		int headerLength = headerSegment.length();
+		if (!token.startsWith(headerSegment) || token.length() <= headerLength || token.charAt(headerLength) != '.') {
+			return null;
+		}
+		int payloadEnd = token.lastIndexOf('.');
+		Buffers buffer = buffers.acquire();
+		try {
+			if (!buffer.decodeBase64Url(token, headerLength + 1, payloadEnd)) {
+				return null;
+			}
+			return parse(buffer.json, buffer.length);
+		} finally {
+			buffers.release(buffer);
+		}
+	}
+
+	private static Claims parse(byte[] json, int length) {
+		if (length < 2 || json[0] != '{' || json[length - 1] != '}') {
+			return null;
+		}
+		String tokenId = null;
+		String subject = null;
+		String role = null;
+		long expiresAt = -1;
+		long issuedAt = -1;
+		long issuedAtMillis = -1;
+		long userId = -1;
+		long roleOrdinal = -1;
+
+		int position = 1;
+		while (true) {
+			if (json[position] != '"') {
+				return null;
+			}
+			int keyEnd = closingQuote(json, position + 1, length);
+			if (keyEnd < 0 || keyEnd + 1 >= length || json[keyEnd + 1] != ':') {
+				return null;
+			}
+			int key = keyIndex(json, position + 1, keyEnd);
+			position = keyEnd + 2;
+
+			if (key == EXP || key == IAT || key == UID || key == ROLE_ORDINAL || key == IAT_MILLIS) {
+				long value = 0;
+				int start = position;
+				while (position < length && json[position] >= '0' && json[position] <= '9' && position - start < 18) {
+					value = value * 10 + (json[position++] - '0');
+				}
+				if (position == start) {
+					return null;
+				}
+				switch (key) {
+					case EXP -> expiresAt = value;
+					case IAT -> issuedAt = value;
+					case UID -> userId = value;
+					case IAT_MILLIS -> issuedAtMillis = value;
+					default -> roleOrdinal = value;
+				}
+			} else if (key >= 0) {
+				if (position >= length || json[position] != '"') {
+					return null;
+				}
+				int valueEnd = closingQuote(json, position + 1, length);
+				if (valueEnd < 0) {
+					return null;
+				}
+				String value = new String(json, position + 1, valueEnd - position - 1, StandardCharsets.UTF_8);
+				switch (key) {
+					case JTI -> tokenId = value;
+					case SUB -> subject = value;
+					default -> role = value;
+				}
+				position = valueEnd + 1;
+			} else {
+				return null;
+			}
+
+			if (position >= length) {
+				return null;
+			}
+			if (json[position] == ',') {
+				position++;
+			} else if (json[position] == '}' && position == length - 1) {
+				break;
+			} else {
+				return null;
+			}
+		}
+
+		if ((subject == null) == (userId < 0) || expiresAt < 0) {
+			return null;
+		}
+		Claims claims = Jwts.claims();
+		if (tokenId != null) {
+			claims.setId(tokenId);
+		}
+		if (subject != null) {
+			claims.setSubject(subject);
+		} else {
+			claims.put(JwtUtil.USER_ID_KEY, userId);
+		}
+		claims.setExpiration(new Date(expiresAt * 1000));
+		if (issuedAt >= 0) {
+			claims.setIssuedAt(new Date(issuedAt * 1000));
+		}
+		if (issuedAtMillis >= 0) {
+			claims.put(JwtUtil.ISSUED_AT_MILLIS_KEY, issuedAtMillis);
+		}
+		if (role != null) {
+			claims.put(JwtUtil.AUTHORIZATION_KEY, role);
+		}
+		if (roleOrdinal >= 0) {
+			claims.put(JwtUtil.ROLE_ORDINAL_KEY, (int) roleOrdinal);
+		}
+		return claims;
+	}
+
+	// 이스케이프가 있는 문자열은 지원하지 않으므로 백슬래시를 만나면 -1
+	private static int closingQuote(byte[] json, int from, int length) {
+		for (int i = from; i < length; i++) {
+			if (json[i] == '"') {
+				return i;
+			}
+			if (json[i] == '\\') {
+				return -1;
+			}
+		}
+		return -1;
+	}
+
+	private static int keyIndex(byte[] json, int start, int end) {
+		for (int k = 0; k < KEYS.length; k++) {
+			byte[] key = KEYS[k];
+			if (key.length == end - start && Arrays.equals(json, start, end, key, 0, key.length)) {
+				return k;
+			}
+		}
+		return -1;
+	}
+
+	private static class Buffers {
+
+		private byte[] json = new byte[256];
+		private int length;
+		private char[] chars = new char[512];
+		private byte[] ascii = new byte[512];
+
+		Buffers append(String ascii) {
+			ensure(ascii.length());
+			for (int i = 0; i < ascii.length(); i++) {
+				json[length++] = (byte) ascii.charAt(i);
+			}
+			return this;
+		}
+
+		Buffers appendLong(long value) {
+			return append(Long.toString(value));
+		}
+
+		// JSON 문자열 값으로 UTF-8 인코딩, 따옴표/백슬래시/제어 문자는 이스케이프
+		Buffers appendString(String value) {
+			ensure(value.length() * 6);
+			for (int i = 0; i < value.length(); i++) {
+				char c = value.charAt(i);
+				if (c == '"' || c == '\\') {
+					json[length++] = '\\';
+					json[length++] = (byte) c;
+				} else if (c < 0x20) {
+					json[length++] = '\\';
+					json[length++] = 'u';
+					json[length++] = '0';
+					json[length++] = '0';
+					json[length++] = (byte) HEX[c >> 4];
+					json[length++] = (byte) HEX[c & 15];
+				} else if (c < 0x80) {
+					json[length++] = (byte) c;
+				} else if (c < 0x800) {
+					json[length++] = (byte) (0xC0 | (c >> 6));
+					json[length++] = (byte) (0x80 | (c & 0x3F));
+				} else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+					&& Character.isLowSurrogate(value.charAt(i + 1))) {
+					int codePoint = Character.toCodePoint(c, value.charAt(++i));
+					json[length++] = (byte) (0xF0 | (codePoint >> 18));
+					json[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+					json[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+					json[length++] = (byte) (0x80 | (codePoint & 0x3F));
+				} else {
+					json[length++] = (byte) (0xE0 | (c >> 12));
+					json[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+					json[length++] = (byte) (0x80 | (c & 0x3F));
+				}
+			}
+			return this;
+		}
+
+		boolean decodeBase64Url(String token, int start, int end) {
+			int count = end - start;
+			if (count <= 0 || count % 4 == 1) {
+				return false;
+			}
+			length = 0;
+			ensure(count * 3 / 4);
+			int bits = 0;
+			int bitCount = 0;
+			for (int i = start; i < end; i++) {
+				char c = token.charAt(i);
+				int value = c < 128 ? DECODE[c] : -1;
+				if (value < 0) {
+					return false;
+				}
+				bits = (bits << 6) | value;
+				bitCount += 6;
+				if (bitCount >= 8) {
+					bitCount -= 8;
+					json[length++] = (byte) (bits >> bitCount);
+				}
+			}
+			return true;
+		}
+
+		char[] chars(int size) {
+			if (chars.length < size) {
+				chars = new char[Math.max(size, chars.length * 2)];
+			}
+			return chars;
+		}
+
+		byte[] ascii(int size) {
+			if (ascii.length < size) {
+				ascii = new byte[Math.max(size, ascii.length * 2)];
+			}
+			return ascii;
+		}
+
+		private void ensure(int additional) {
+			if (length + additional > json.length) {
+				json = Arrays.copyOf(json, Math.max(length + additional, json.length * 2));
+			}
+		}
+	}
+}
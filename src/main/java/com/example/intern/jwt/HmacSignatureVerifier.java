@@ -0,0 +1,142 @@
+package com.example.intern.jwt;
+
+import com.example.intern.global.util.ThreadStatePool;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+
+/**
+ * HS256 서명을 예외 없이 검사하고 만든다.
+ * jjwt 파서로 넘기기 전에 구조와 서명이 맞지 않는 토큰을 걸러내는 용도이다.
+ * Mac 과 작업 버퍼는 스레드마다(가상 스레드는 공유 풀에서) 하나씩 두고 재사용하므로 검증 한 번에 새 배열을 만들지 않는다.
+ */
+class HmacSignatureVerifier {
+
+	private static final String ALGORITHM = "HmacSHA256";
+	private static final int DIGEST_LENGTH = 32;
+	// 32바이트 HS256 서명을 패딩 없는 Base64URL 로 인코딩한 길이
+	static final int SIGNATURE_LENGTH = 43;
+	static final char[] BASE64_URL = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+
+	private final ThreadStatePool<State> states;
+
+	HmacSignatureVerifier(Key key) {
+		this.states = new ThreadStatePool<>(() -> new State(newMac(key)));
+	}
+
+	// header.payload.signature 세 부분이 모두 비어 있지 않은 Base64URL 문자열인지 확인
+	static boolean isWellFormed(String token) {
+		int firstDot = token.indexOf('.');
+		int secondDot = firstDot > 0 ? token.indexOf('.', firstDot + 1) : -1;
+		if (secondDot <= firstDot + 1 || secondDot == token.length() - 1) {
+			return false;
+		}
+		for (int i = 0; i < token.length(); i++) {
+			char c = token.charAt(i);
+			boolean valid = (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+				|| c == '-' || c == '_' || i == firstDot || i == secondDot;
+			if (!valid) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// isWellFormed 를 통과한 토큰의 서명이 일치하는지 확인. 기대 서명을 문자로 만들어 상수 시간으로 비교한다
+	boolean verify(String token) {
+		int signatureStart = token.lastIndexOf('.') + 1;
+		if (token.length() - signatureStart != SIGNATURE_LENGTH) {
+			return false;
+		}
+
+		State state = states.acquire();
+		try {
+			int length = signatureStart - 1;
+			byte[] input = state.input(length);
+			for (int i = 0; i < length; i++) {
+				input[i] = (byte) token.charAt(i);
+			}
+			char[] expected = state.sign(input, length);
+			int diff = 0;
+			for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+				diff |= expected[i] ^ token.charAt(signatureStart + i);
+			}
+			return diff == 0;
+		} finally {
+			states.release(state);
+		}
+	}
+
+	// ASCII 로 된 signing input(header.payload) 의 서명을 Base64URL 문자열로 반환
+	String sign(byte[] signingInput, int length) {
+		State state = states.acquire();
+		try {
+			return new String(state.sign(signingInput, length));
+		} finally {
+			states.release(state);
+		}
+	}
+
+	// 패딩 없는 Base64URL 인코딩. dst 에 쓴 문자 수를 반환
+	static int encodeBase64Url(byte[] src, int length, char[] dst, int offset) {
+		int out = offset;
+		int i = 0;
+		for (; i + 2 < length; i += 3) {
+			int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8 | (src[i + 2] & 0xff);
+			dst[out++] = BASE64_URL[bits >>> 18];
+			dst[out++] = BASE64_URL[(bits >>> 12) & 63];
+			dst[out++] = BASE64_URL[(bits >>> 6) & 63];
+			dst[out++] = BASE64_URL[bits & 63];
+		}
+		if (i < length) {
+			int bits = (src[i] & 0xff) << 16 | (i + 1 < length ? (src[i + 1] & 0xff) << 8 : 0);
+			dst[out++] = BASE64_URL[bits >>> 18];
+			dst[out++] = BASE64_URL[(bits >>> 12) & 63];
+			if (i + 1 < length) {
+				dst[out++] = BASE64_URL[(bits >>> 6) & 63];
+			}
+		}
+		return out - offset;
+	}
+
+	private static Mac newMac(Key key) {
+		try {
+			Mac mac = Mac.getInstance(ALGORITHM);
+			mac.init(key);
+			return mac;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("HMAC 초기화에 실패했습니다.", e);
+		}
+	}
+
+	private static class State {
+
+		private final Mac mac;
+		private final byte[] digest = new byte[DIGEST_LENGTH];
+		private final char[] signature = new char[SIGNATURE_LENGTH];
+		private byte[] input = new byte[512];
+
+		State(Mac mac) {
+			this.mac = mac;
+		}
+
+		byte[] input(int length) {
+			if (input.length < length) {
+				input = new byte[Math.max(length, input.length * 2)];
+			}
+			return input;
+		}
+
+		char[] sign(byte[] signingInput, int length) {
+			mac.update(signingInput, 0, length);
+			try {
+				mac.doFinal(digest, 0);
+			} catch (ShortBufferException e) {
+				throw new IllegalStateException(e);
+			}
+			encodeBase64Url(digest, DIGEST_LENGTH, signature, 0);
+			return signature;
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package com.example.intern.jwt;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+
+/**
+ * 로그인 시 발급한 토큰 쌍. 응답 헤더는 요청 스레드에서 toHeaders() 로 붙인다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class IssuedTokens {
+
+	private final String accessToken;
+	private final ResponseCookie refreshTokenCookie;
+
+	public HttpHeaders toHeaders() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.add(JwtUtil.AUTHORIZATION_HEADER, JwtUtil.BEARER_PREFIX + accessToken);
+		headers.add(HttpHeaders.SET_COOKIE, refreshTokenCookie.toString());
+		return headers;
+	}
+}
@@ -2,27 +2,34 @@ package com.example.intern.jwt;
 
 import com.example.intern.global.exception.ErrorCode;
 import com.example.intern.global.exception.GlobalException;
+import com.example.intern.global.invalidation.InvalidationBus;
+import com.example.intern.global.invalidation.InvalidationEvent;
+import com.example.intern.global.metrics.AuthMetrics;
 import com.example.intern.user.entity.User;
 import com.example.intern.user.entity.UserRole;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.SignatureException;
 import io.jsonwebtoken.UnsupportedJwtException;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.security.Key;
-import java.util.Base64;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseCookie;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
@@ -33,27 +40,142 @@ public class JwtUtil {
 	public static final String REFRESH_HEADER = "Refresh";
 	public static final String AUTHORIZATION_KEY = "auth";
 	public static final String BEARER_PREFIX = "Bearer ";
+	// 압축 토큰의 클레임: username 대신 사용자 id, 역할 이름 대신 UserRole ordinal
+	public static final String USER_ID_KEY = "uid";
+	public static final String ROLE_ORDINAL_KEY = "r";
+	// 밀리초 단위 발급 시각. iat 는 초 단위라 사용자 단위 폐기 직후(같은 초) 발급한 토큰을 구분할 수 없다
+	public static final String ISSUED_AT_MILLIS_KEY = "iatms";
+	private static final UserRole[] USER_ROLES = UserRole.values();
 	private static final Logger logger = LoggerFactory.getLogger("JWT 관련 로그");
 
 	@Value("${jwt.secret.key}")
 	String secretKey;
 
+	// kid 별 서명 키 파일 경로. 비어 있으면 jwt.secret.key 하나를 kid 없이 사용한다
+	@Value("${jwt.keys.file:}")
+	String keyFile;
+
 	@Value("${jwt.access-expire-time}")
 	long accessTokenExpireTime;
 
 	@Value("${jwt.refresh-expire-time}")
 	long refreshTokenExpireTime;
 
-	private Key key;
-	final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+	// 검증된 토큰 캐시의 최대 크기(바이트), 0 이면 캐시하지 않음
+	@Value("${jwt.token-cache.maximum-bytes:0}")
+	long tokenCacheMaximumBytes;
+
+	// User 로 발급하는 토큰을 압축 형식으로 발급 (검증은 두 형식 모두 지원)
+	@Value("${jwt.compact-tokens:false}")
+	boolean compactTokens;
+
+	// 같은 리프레시 토큰의 동시 재발급을 합치는 시간(밀리초), 0 이면 합치지 않음
+	@Value("${jwt.refresh-coalesce.window-millis:0}")
+	long refreshCoalesceWindowMillis;
+
+	@Value("${jwt.refresh-coalesce.maximum-size:10000}")
+	long refreshCoalesceMaximumSize;
+
+	// 액세스 토큰 형식: jwt(기본) 또는 opaque(서버 저장소를 참조하는 난수 토큰)
+	@Value("${jwt.token-mode:jwt}")
+	String tokenMode;
+
+	@Value("${jwt.opaque.capacity:1048576}")
+	int opaqueCapacity;
+
+	@Value("${jwt.opaque.segments:64}")
+	int opaqueSegments;
+
+	// 만료된 불투명 토큰을 리프레시 경로를 위해 남겨 두는 시간(밀리초)
+	@Value("${jwt.opaque.expired-retention-millis:600000}")
+	long opaqueExpiredRetentionMillis;
+
+	// 폐기 목록 Bloom 필터의 예상 항목 수와 오탐률
+	@Value("${jwt.revocation.expected-insertions:100000}")
+	int revocationExpectedInsertions;
+
+	@Value("${jwt.revocation.false-positive-rate:0.001}")
+	double revocationFalsePositiveRate;
+
+	private AuthMetrics authMetrics = AuthMetrics.noop();
+	private InvalidationBus invalidationBus = InvalidationBus.noop();
+	private volatile SigningKeyRing keyRing;
+	private long keyFileLastModified;
+	private final ReentrantLock keyReloadLock = new ReentrantLock();
+	private VerifiedTokenCache tokenCache;
+	private RefreshCoalescer refreshCoalescer;
+	private OpaqueTokenStore opaqueTokenStore;
+	private TokenRevocationList revocationList;
+
+	@Autowired(required = false)
+	public void setAuthMetrics(AuthMetrics authMetrics) {
+		this.authMetrics = authMetrics;
+	}
+
+	// 다른 노드에서 폐기한 토큰을 이 노드의 폐기 목록과 저장소에도 반영
+	@Autowired(required = false)
+	public void setInvalidationBus(InvalidationBus invalidationBus) {
+		this.invalidationBus = invalidationBus;
+		invalidationBus.subscribe(this::onInvalidation);
+	}
 
 	@PostConstruct
 	public void init() {
-		byte[] bytes = Base64.getDecoder().decode(secretKey);
-		key = Keys.hmacShaKeyFor(bytes);
+		keyRing = SigningKeyRing.single(SigningKey.of(null, secretKey));
+		reloadSigningKeys();
+		tokenCache = new VerifiedTokenCache(tokenCacheMaximumBytes);
+		refreshCoalescer = new RefreshCoalescer(Duration.ofMillis(refreshCoalesceWindowMillis), refreshCoalesceMaximumSize);
+		revocationList = new TokenRevocationList(revocationExpectedInsertions, revocationFalsePositiveRate,
+			Math.max(accessTokenExpireTime, refreshTokenExpireTime));
+		if ("opaque".equalsIgnoreCase(tokenMode)) {
+			opaqueTokenStore = new OpaqueTokenStore(opaqueCapacity, opaqueSegments, opaqueExpiredRetentionMillis);
+		}
+	}
+
+	/**
+	 * 키 파일이 바뀌었으면 새 키 링으로 교체한다. 요청은 교체 전후 어느 한쪽 스냅샷만 보므로 중단되지 않는다.
+	 * 읽기에 실패하면 기존 키 링을 그대로 쓴다.
+	 */
+	@Scheduled(fixedDelayString = "${jwt.keys.reload-interval-millis:30000}")
+	public void reloadSigningKeys() {
+		if (!StringUtils.hasText(keyFile)) {
+			return;
+		}
+		// 파일 I/O 를 하므로 synchronized 대신 ReentrantLock (가상 스레드 고정 방지)
+		keyReloadLock.lock();
+		try {
+			Path path = Path.of(keyFile);
+			long lastModified = Files.getLastModifiedTime(path).toMillis();
+			if (lastModified == keyFileLastModified) {
+				return;
+			}
+			SigningKeyRing.KeyFile file = SigningKeyRing.read(path);
+			SigningKeyRing rotated = SigningKeyRing.rotate(file.keys(), file.activeKid(), keyRing,
+				System.currentTimeMillis(), Math.max(accessTokenExpireTime, refreshTokenExpireTime));
+			// 캐시는 키 조회보다 먼저 확인하므로, 비밀 값이 바뀐 kid 의 토큰이 캐시로 통과하지 않도록 비운다
+			if (tokenCache != null && rotated.replacesSecretOf(keyRing)) {
+				tokenCache.invalidateAll();
+			}
+			keyRing = rotated;
+			keyFileLastModified = lastModified;
+			logger.info("서명 키를 다시 읽었습니다. active={}, keys={}", file.activeKid(), keyRing.size());
+		} catch (IOException | RuntimeException e) {
+			logger.warn("서명 키 파일을 읽지 못해 기존 키를 유지합니다: {}", keyFile, e);
+		} finally {
+			keyReloadLock.unlock();
+		}
 	}
 
 	public String createAccessToken(String userName, UserRole userRole) {
+		if (opaqueTokenStore != null) {
+			long start = System.nanoTime();
+			String token = opaqueTokenStore.issue(userName, userRole, System.currentTimeMillis() + accessTokenExpireTime);
+			if (token != null) {
+				authMetrics.recordTokenCreate(start);
+				return token;
+			}
+			// 저장소 슬롯에 담을 수 없는 긴 username 은 JWT 로 발급
+		}
 		return createToken(userName, userRole, accessTokenExpireTime);
 	}
 
@@ -61,19 +183,53 @@ public class JwtUtil {
 		return createToken(userName, null, refreshTokenExpireTime);
 	}
 
-	private String createToken(String userName, UserRole userRole, long expireTime) {
-		Date now = new Date();
-		JwtBuilder builder = Jwts.builder()
-			.setSubject(userName)
-			.setExpiration(new Date(now.getTime() + expireTime))
-			.setIssuedAt(now)
-			.signWith(key, signatureAlgorithm);
+	public String createAccessToken(User user) {
+		if (useCompactTokens(user)) {
+			return createCompactToken(user.getId(), user.getUserRole(), accessTokenExpireTime);
+		}
+		return createAccessToken(user.getUsername(), user.getUserRole());
+	}
 
-		if (userRole != null) {
-			builder.claim(AUTHORIZATION_KEY, userRole);
+	public String createRefreshToken(User user) {
+		if (useCompactTokens(user)) {
+			return createCompactToken(user.getId(), null, refreshTokenExpireTime);
 		}
+		return createRefreshToken(user.getUsername());
+	}
+
+	// 불투명 토큰 모드에서는 저장소 토큰이 이미 더 짧으므로 압축 형식을 쓰지 않는다
+	private boolean useCompactTokens(User user) {
+		return compactTokens && opaqueTokenStore == null && user.getId() != null;
+	}
 
-		return builder.compact();
+	private String createCompactToken(long userId, UserRole userRole, long expireTime) {
+		long start = System.nanoTime();
+		long now = System.currentTimeMillis();
+		String token = keyRing.active().getCodec().encodeCompact(compactTokenId(), userId,
+			(now + expireTime) / 1000, now, userRole != null ? userRole.ordinal() : -1);
+		authMetrics.recordTokenCreate(start);
+		return token;
+	}
+
+	// 64비트 난수를 Base64URL 11자로 표현한 jti (폐기 목록 키로만 쓰므로 충분)
+	private static String compactTokenId() {
+		long value = ThreadLocalRandom.current().nextLong();
+		char[] chars = new char[11];
+		for (int i = 0; i < 10; i++) {
+			chars[i] = HmacSignatureVerifier.BASE64_URL[(int) (value >>> (58 - 6 * i)) & 63];
+		}
+		chars[10] = HmacSignatureVerifier.BASE64_URL[(int) (value & 15) << 2];
+		return new String(chars);
+	}
+
+	private String createToken(String userName, UserRole userRole, long expireTime) {
+		long start = System.nanoTime();
+		long now = System.currentTimeMillis();
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		String token = keyRing.active().getCodec().encode(new UUID(random.nextLong(), random.nextLong()).toString(), userName,
+			(now + expireTime) / 1000, now, userRole != null ? userRole.name() : null);
+		authMetrics.recordTokenCreate(start);
+		return token;
 	}
 
 	public void addJwtToHeader(String headerName, String token, HttpServletResponse response) {
@@ -81,24 +237,42 @@ public class JwtUtil {
 	}
 
 	public void addRefreshTokenCookie(HttpServletResponse response, String refreshToken) {
-		ResponseCookie cookie = ResponseCookie.from(REFRESH_HEADER, refreshToken)
+		response.addHeader("Set-Cookie", createRefreshTokenCookie(refreshToken).toString());
+	}
+
+	public ResponseCookie createRefreshTokenCookie(String refreshToken) {
+		return ResponseCookie.from(REFRESH_HEADER, refreshToken)
 			.path("/")
 			.sameSite("None")
 			.httpOnly(true)
 			.secure(false)
 			.maxAge((int) refreshTokenExpireTime)
 			.build();
-
-		response.addHeader("Set-Cookie", cookie.toString());
 	}
 
+	// 필터가 재발급한 토큰 헤더가 있어도 덮어써서 Authorization 헤더가 하나만 남게 한다
 	public void clearAuthToken(HttpServletResponse response) {
-		addJwtToHeader(AUTHORIZATION_HEADER, "", response);
+		response.setHeader(AUTHORIZATION_HEADER, "");
+		response.addHeader("Set-Cookie", ResponseCookie.from(REFRESH_HEADER, "")
+			.path("/")
+			.sameSite("None")
+			.httpOnly(true)
+			.secure(false)
+			.maxAge(0)
+			.build()
+			.toString());
+	}
+
+	// 응답 객체에 직접 쓰지 않고 토큰만 만든다 (비동기 처리 스레드에서 사용)
+	public IssuedTokens createTokens(User user) {
+		String accessToken = createAccessToken(user);
+		String refreshToken = createRefreshToken(user);
+		return new IssuedTokens(accessToken, createRefreshTokenCookie(refreshToken));
 	}
 
 	public String issueTokens(User user, HttpServletResponse response) {
-		String accessToken = createAccessToken(user.getUsername(), user.getUserRole());
-		String refreshToken = createRefreshToken(user.getUsername());
+		String accessToken = createAccessToken(user);
+		String refreshToken = createRefreshToken(user);
 
 		addJwtToHeader(AUTHORIZATION_HEADER, BEARER_PREFIX + accessToken, response);
 		addRefreshTokenCookie(response, refreshToken);
@@ -113,34 +287,262 @@ public class JwtUtil {
 		return null;
 	}
 
+	// 이번 요청에서 필터가 만료된 토큰 대신 새로 발급해 응답 헤더에 넣은 액세스 토큰 (없으면 null)
+	public String getIssuedAccessToken(HttpServletResponse response) {
+		String token = response.getHeader(AUTHORIZATION_HEADER);
+		if (StringUtils.hasText(token) && token.startsWith(BEARER_PREFIX)) {
+			return token.substring(BEARER_PREFIX.length());
+		}
+		return null;
+	}
+
 	public boolean validateToken(String token) {
+		TokenVerification verification = verify(token);
+		switch (verification.getStatus()) {
+			case VALID -> {
+				return true;
+			}
+			case BAD_SIGNATURE -> logger.debug("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
+			case EXPIRED -> logger.debug("Expired JWT token, 만료된 JWT token 입니다.");
+			case UNSUPPORTED -> logger.debug("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.");
+			case MALFORMED -> logger.debug("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
+			case UNKNOWN -> logger.debug("Unknown opaque token, 저장소에 없는 토큰 입니다.");
+			case REVOKED -> logger.debug("Revoked JWT token, 폐기된 토큰 입니다.");
+		}
+		return false;
+	}
+
+	/**
+	 * 토큰을 검증하고 결과를 상태 값으로 반환한다.
+	 * 구조와 서명 검사는 예외 없이 처리하므로 위조되거나 깨진 토큰이 몰려도 스택 트레이스를 만들지 않는다.
+	 */
+	public TokenVerification verify(String token) {
+		long start = System.nanoTime();
+		TokenVerification verification = verifyToken(token);
+		authMetrics.recordTokenVerify(verification.getStatus(), start);
+		return verification;
+	}
+
+	// 서명과 만료 검사를 통과해 Claims 를 얻은 토큰만 폐기 목록과 대조한다
+	private TokenVerification verifyToken(String token) {
+		TokenVerification verification = verifyClaims(token);
+		Claims claims = verification.getClaims();
+		if (claims != null && revocationList.isRevoked(claims)) {
+			return TokenVerification.revoked();
+		}
+		return verification;
+	}
+
+	private TokenVerification verifyClaims(String token) {
+		if (!StringUtils.hasText(token)) {
+			return TokenVerification.malformed();
+		}
+		// 불투명 토큰은 캐시를 거치지 않아야 폐기가 즉시 반영된다
+		if (opaqueTokenStore != null && OpaqueTokenStore.isOpaqueToken(token)) {
+			return verifyOpaqueToken(token);
+		}
+		Claims cached = tokenCache.get(token);
+		if (cached != null) {
+			return TokenVerification.valid(cached);
+		}
+		if (!HmacSignatureVerifier.isWellFormed(token)) {
+			return TokenVerification.malformed();
+		}
+		long now = System.currentTimeMillis();
+		SigningKey signingKey = keyRing.find(token, now);
+		if (signingKey != null) {
+			if (!signingKey.getVerifier().verify(token)) {
+				return TokenVerification.badSignature();
+			}
+			Claims decoded = signingKey.getCodec().decode(token);
+			if (decoded != null) {
+				// jjwt 와 같은 기준: 현재 시각이 exp 를 지나면 만료
+				if (decoded.getExpiration().getTime() < now) {
+					return TokenVerification.expired(decoded);
+				}
+				tokenCache.put(token, decoded);
+				return TokenVerification.valid(decoded);
+			}
+		}
+		// 키 링이 만든 형태의 헤더가 아니거나 고정 스키마가 아닌 토큰만 jjwt 로 파싱한다 (kid 헤더로 키 선택)
+		// 대부분 서명이 이미 확인된 토큰이므로 아래 예외는 만료 시점에 토큰당 한 번 정도만 발생
 		try {
-			Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-			return true;
-		} catch (SecurityException | MalformedJwtException | SignatureException e) {
-			logger.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
+			Claims claims = keyRing.parser().parseClaimsJws(token).getBody();
+			tokenCache.put(token, claims);
+			return TokenVerification.valid(claims);
 		} catch (ExpiredJwtException e) {
-			logger.error("Expired JWT token, 만료된 JWT token 입니다.");
+			return TokenVerification.expired(e.getClaims());
+		} catch (SignatureException e) {
+			return TokenVerification.badSignature();
 		} catch (UnsupportedJwtException e) {
-			logger.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.");
-		} catch (IllegalArgumentException e) {
-			logger.error("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
+			return TokenVerification.unsupported();
+		} catch (JwtException | IllegalArgumentException e) {
+			return TokenVerification.malformed();
+		}
+	}
+
+	private TokenVerification verifyOpaqueToken(String token) {
+		OpaqueTokenStore.Entry entry = opaqueTokenStore.lookup(token);
+		if (entry == null) {
+			return TokenVerification.unknown();
+		}
+		long issuedAt = entry.getExpiresAt() - accessTokenExpireTime;
+		Claims claims = Jwts.claims()
+			.setSubject(entry.getUsername())
+			.setExpiration(new Date(entry.getExpiresAt()))
+			.setIssuedAt(new Date(issuedAt));
+		claims.put(AUTHORIZATION_KEY, entry.getUserRole().name());
+		claims.put(ISSUED_AT_MILLIS_KEY, issuedAt);
+		return entry.getExpiresAt() > System.currentTimeMillis()
+			? TokenVerification.valid(claims)
+			: TokenVerification.expired(claims);
+	}
+
+	/**
+	 * 토큰 하나를 폐기한다. 불투명 토큰은 저장소에서 지우고, JWT 는 jti 를 만료 시각까지 폐기 목록에 둔다.
+	 * 서명이 유효하지 않은 토큰은 무시하고 false 를 반환한다.
+	 */
+	public boolean revokeToken(String token) {
+		if (opaqueTokenStore != null && StringUtils.hasText(token) && OpaqueTokenStore.isOpaqueToken(token)) {
+			// 토큰이 다른 노드의 저장소에 있을 수 있으므로 결과와 무관하게 전파
+			invalidationBus.publish(InvalidationEvent.tokenRevoked(token, 0));
+			return opaqueTokenStore.remove(token);
+		}
+		TokenVerification verification = verifyClaims(token);
+		Claims claims = verification.getClaims();
+		if (claims == null || claims.getId() == null) {
+			return false;
+		}
+		long expiresAt = claims.getExpiration().getTime();
+		revocationList.revokeToken(claims.getId(), expiresAt);
+		tokenCache.invalidate(token);
+		invalidationBus.publish(InvalidationEvent.tokenRevoked(claims.getId(), expiresAt));
+		return true;
+	}
+
+	// 기존 형식(username)과 압축 형식(uid) 토큰을 모두 폐기
+	public void revokeAllTokens(User user) {
+		revokeAllTokens(user.getUsername());
+		if (user.getId() != null) {
+			revokeAllForSubject(TokenRevocationList.userIdSubject(user.getId()));
+		}
+	}
+
+	// 지금까지 이 사용자에게 발급된 모든 토큰을 폐기. id 키 접두사로 시작하는 이름은 다른 사용자의 id 키이므로 무시
+	public void revokeAllTokens(String username) {
+		if (!User.isReservedUsername(username)) {
+			revokeAllForSubject(username);
+		}
+	}
+
+	private void revokeAllForSubject(String subject) {
+		long revokedAt = System.currentTimeMillis();
+		revocationList.revokeAllForUser(subject, revokedAt);
+		invalidationBus.publish(InvalidationEvent.userTokensRevoked(subject, revokedAt));
+	}
+
+	private void onInvalidation(InvalidationEvent event) {
+		switch (event.getType()) {
+			case TOKEN_REVOKED -> {
+				if (OpaqueTokenStore.isOpaqueToken(event.getKey())) {
+					if (opaqueTokenStore != null) {
+						opaqueTokenStore.remove(event.getKey());
+					}
+				} else {
+					revocationList.revokeToken(event.getKey(), event.getValue());
+				}
+			}
+			case USER_TOKENS_REVOKED -> revocationList.revokeAllForUser(event.getKey(), event.getValue());
+			default -> {
+			}
 		}
-		return false;
+	}
+
+	@Scheduled(fixedDelayString = "${jwt.revocation.prune-interval-millis:60000}")
+	public void pruneRevokedTokens() {
+		revocationList.prune(System.currentTimeMillis());
+	}
+
+	public TokenRevocationList getRevocationList() {
+		return revocationList;
+	}
+
+	public OpaqueTokenStore getOpaqueTokenStore() {
+		return opaqueTokenStore;
 	}
 
 	public Claims getUserInfoFromToken(String token) {
-		return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+		if (opaqueTokenStore != null && OpaqueTokenStore.isOpaqueToken(token)) {
+			return verifyOpaqueToken(token).getClaims();
+		}
+		Claims claims = tokenCache.get(token);
+		if (claims == null) {
+			claims = keyRing.parser().parseClaimsJws(token).getBody();
+			tokenCache.put(token, claims);
+		}
+		return claims;
+	}
+
+	public VerifiedTokenCache getTokenCache() {
+		return tokenCache;
+	}
+
+	public UserRole getUserRoleFromClaims(Claims claims) {
+		String role = claims.get(AUTHORIZATION_KEY, String.class);
+		if (role != null) {
+			return UserRole.valueOf(role);
+		}
+		Object ordinal = claims.get(ROLE_ORDINAL_KEY);
+		if (ordinal instanceof Number number && number.intValue() >= 0 && number.intValue() < USER_ROLES.length) {
+			return USER_ROLES[number.intValue()];
+		}
+		return null;
+	}
+
+	// 압축 토큰이면 사용자 id, 기존 토큰이면 null
+	public Long getUserIdFromClaims(Claims claims) {
+		Object userId = claims.get(USER_ID_KEY);
+		return userId instanceof Number number ? number.longValue() : null;
+	}
+
+	// 만료된 지 액세스 토큰 유효 시간 이상 지난 토큰이면 true. 이런 토큰의 role 은 재발급에 그대로 쓰지 않는다
+	public boolean isStaleExpiredToken(Claims claims) {
+		Date expiration = claims.getExpiration();
+		return expiration == null || expiration.getTime() + accessTokenExpireTime < System.currentTimeMillis();
+	}
+
+	// 두 토큰이 같은 사용자에게 발급되었는지 (압축 토큰은 uid, 기존 토큰은 sub 비교)
+	public boolean isSameSubject(Claims first, Claims second) {
+		Long firstUserId = getUserIdFromClaims(first);
+		if (firstUserId != null) {
+			return firstUserId.equals(getUserIdFromClaims(second));
+		}
+		return first.getSubject() != null && first.getSubject().equals(second.getSubject());
 	}
 
 	public String refreshAccessToken(String refreshToken) {
-		if (validateToken(refreshToken)) {
-			Claims claims = getUserInfoFromToken(refreshToken);
-			String username = claims.getSubject();
-			UserRole userRole = UserRole.valueOf(claims.get(AUTHORIZATION_KEY, String.class));
-			return createAccessToken(username, userRole);
+		TokenVerification verification = verify(refreshToken);
+		if (verification.isValid()) {
+			Claims claims = verification.getClaims();
+			UserRole userRole = getUserRoleFromClaims(claims);
+			if (userRole != null) {
+				return refreshAccessToken(refreshToken, claims, userRole);
+			}
+		}
+		throw GlobalException.of(ErrorCode.INVALID_REFRESH_TOKEN);
+	}
+
+	// 이미 검증된 리프레시 토큰 클레임으로 새 액세스 토큰 발급, 동시에 들어온 같은 리프레시 토큰은 한 번만 서명
+	public String refreshAccessToken(String refreshToken, Claims refreshClaims, UserRole userRole) {
+		Long userId = getUserIdFromClaims(refreshClaims);
+		if (userId != null) {
+			return refreshCoalescer.coalesce(refreshToken, () -> createCompactToken(userId, userRole, accessTokenExpireTime));
 		}
-		throw new GlobalException(ErrorCode.INVALID_REFRESH_TOKEN);
+		return refreshCoalescer.coalesce(refreshToken, () -> createAccessToken(refreshClaims.getSubject(), userRole));
+	}
+
+	public RefreshCoalescer getRefreshCoalescer() {
+		return refreshCoalescer;
 	}
 
 }
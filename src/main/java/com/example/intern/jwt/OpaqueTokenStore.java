@@ -0,0 +1,346 @@
+package com.example.intern.jwt;
+
+import com.example.intern.global.util.ThreadStatePool;
+import com.example.intern.user.entity.UserRole;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 불투명(opaque) 액세스 토큰 저장소. 토큰 → (username, role, 만료 시각) 을 힙 밖(direct buffer)의 해시 테이블에 보관한다.
+ * <p>
+ * 토큰은 128비트 난수를 Base64URL 로 표현한 22자 문자열이며, 조회는 HMAC 이나 JSON 파싱 없이 해시 탐색 한 번으로 끝난다.
+ * 테이블은 세그먼트로 나누어 쓰기 잠금을 분산하고, 읽기는 StampedLock 의 낙관적 읽기로 잠금 없이 처리한다.
+ * 모든 토큰의 유효 기간이 같으므로 발급 순서가 곧 만료 순서이며, 세그먼트마다 발급 순서를 기록한 링 버퍼로
+ * 만료된 항목과 (공간이 부족할 때) 가장 먼저 만료될 항목부터 제거한다.
+ */
+public class OpaqueTokenStore {
+
+	public static final int TOKEN_LENGTH = 22;
+	static final int MAX_USERNAME_BYTES = 64;
+
+	// 슬롯 레이아웃 (96 bytes)
+	private static final int SLOT_SIZE = 96;
+	private static final int STATE = 0;
+	private static final int ROLE = 1;
+	private static final int USERNAME_LENGTH = 2;
+	private static final int TOKEN_HI = 8;
+	private static final int TOKEN_LO = 16;
+	private static final int EXPIRES_AT = 24;
+	private static final int USERNAME = 32;
+	private static final int RING_ENTRY_SIZE = 16;
+
+	private static final byte EMPTY = 0;
+	private static final byte OCCUPIED = 1;
+
+	private static final UserRole[] ROLES = UserRole.values();
+	private static final char[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+	private static final byte[] DECODE = new byte[128];
+
+	static {
+		Arrays.fill(DECODE, (byte) -1);
+		for (int i = 0; i < ALPHABET.length; i++) {
+			DECODE[ALPHABET[i]] = (byte) i;
+		}
+	}
+
+	private final Segment[] segments;
+	private final int segmentMask;
+	private final long expiredRetentionMillis;
+	private final LongAdder evictions = new LongAdder();
+	private final ThreadStatePool<SecureRandom> random = new ThreadStatePool<>(SecureRandom::new);
+
+	/**
+	 * @param capacity               저장할 수 있는 전체 슬롯 수 (세그먼트별 2의 거듭제곱으로 올림)
+	 * @param segmentCount           세그먼트 수 (2의 거듭제곱으로 올림)
+	 * @param expiredRetentionMillis 만료 후에도 리프레시 경로를 위해 항목을 남겨 두는 시간
+	 */
+	public OpaqueTokenStore(int capacity, int segmentCount, long expiredRetentionMillis) {
+		int count = nextPowerOfTwo(Math.max(1, segmentCount));
+		int perSegment = nextPowerOfTwo(Math.max(16, capacity / count));
+		this.segments = new Segment[count];
+		for (int i = 0; i < count; i++) {
+			segments[i] = new Segment(perSegment);
+		}
+		this.segmentMask = count - 1;
+		this.expiredRetentionMillis = expiredRetentionMillis;
+	}
+
+	public static boolean isOpaqueToken(String token) {
+		return token.length() == TOKEN_LENGTH && token.indexOf('.') < 0;
+	}
+
+	/**
+	 * 새 토큰을 발급해 저장한다. username 이 슬롯에 들어가지 않을 만큼 길면 null 을 반환한다.
+	 */
+	public String issue(String username, UserRole userRole, long expiresAt) {
+		byte[] name = username.getBytes(StandardCharsets.UTF_8);
+		if (name.length > MAX_USERNAME_BYTES) {
+			return null;
+		}
+		SecureRandom secureRandom = random.acquire();
+		long hi = secureRandom.nextLong();
+		long lo = secureRandom.nextLong();
+		random.release(secureRandom);
+		segmentFor(lo).put(hi, lo, name, userRole, expiresAt, System.currentTimeMillis() - expiredRetentionMillis);
+		return encode(hi) + encode(lo);
+	}
+
+	public Entry lookup(String token) {
+		if (!isWellFormed(token)) {
+			return null;
+		}
+		long hi = decode(token, 0);
+		long lo = decode(token, TOKEN_LENGTH / 2);
+		return segmentFor(lo).get(hi, lo);
+	}
+
+	public boolean remove(String token) {
+		if (!isWellFormed(token)) {
+			return false;
+		}
+		long hi = decode(token, 0);
+		long lo = decode(token, TOKEN_LENGTH / 2);
+		return segmentFor(lo).remove(hi, lo);
+	}
+
+	public long size() {
+		long size = 0;
+		for (Segment segment : segments) {
+			size += segment.size;
+		}
+		return size;
+	}
+
+	public long evictionCount() {
+		return evictions.sum();
+	}
+
+	private Segment segmentFor(long lo) {
+		return segments[(int) lo & segmentMask];
+	}
+
+	private static boolean isWellFormed(String token) {
+		if (token.length() != TOKEN_LENGTH) {
+			return false;
+		}
+		for (int i = 0; i < TOKEN_LENGTH; i++) {
+			char c = token.charAt(i);
+			if (c >= 128 || DECODE[c] < 0) {
+				return false;
+			}
+		}
+		// 각 long 의 마지막 문자는 하위 4비트만 사용
+		return (DECODE[token.charAt(10)] & 3) == 0 && (DECODE[token.charAt(21)] & 3) == 0;
+	}
+
+	// long 하나를 11자로 인코딩: 앞 10자에 상위 60비트, 마지막 문자에 하위 4비트
+	private static String encode(long value) {
+		char[] chars = new char[TOKEN_LENGTH / 2];
+		for (int i = 0; i < 10; i++) {
+			chars[i] = ALPHABET[(int) (value >>> (58 - 6 * i)) & 63];
+		}
+		chars[10] = ALPHABET[(int) (value & 15) << 2];
+		return new String(chars);
+	}
+
+	private static long decode(String token, int offset) {
+		long value = 0;
+		for (int i = 0; i < 10; i++) {
+			value = (value << 6) | DECODE[token.charAt(offset + i)];
+		}
+		return (value << 4) | (DECODE[token.charAt(offset + 10)] >>> 2);
+	}
+
+	private static int nextPowerOfTwo(int value) {
+		int highest = Integer.highestOneBit(value);
+		return highest == value ? value : highest << 1;
+	}
+
+	@Getter
+	@RequiredArgsConstructor
+	public static class Entry {
+		private final String username;
+		private final UserRole userRole;
+		private final long expiresAt;
+	}
+
+	private class Segment {
+
+		private final ByteBuffer table;
+		private final ByteBuffer ring;
+		private final int capacity;
+		private final int mask;
+		private final int maxSize;
+		private final StampedLock lock = new StampedLock();
+		private volatile int size;
+		private int ringHead;
+		private int ringCount;
+
+		Segment(int capacity) {
+			this.capacity = capacity;
+			this.mask = capacity - 1;
+			this.maxSize = capacity / 4 * 3;
+			this.table = ByteBuffer.allocateDirect(capacity * SLOT_SIZE);
+			this.ring = ByteBuffer.allocateDirect(capacity * RING_ENTRY_SIZE);
+		}
+
+		void put(long hi, long lo, byte[] name, UserRole userRole, long expiresAt, long evictBefore) {
+			long stamp = lock.writeLock();
+			try {
+				evictExpired(evictBefore);
+				while (size >= maxSize || ringCount == capacity) {
+					evictOldest();
+				}
+				int slot = home(hi);
+				while (table.get(slot * SLOT_SIZE + STATE) != EMPTY) {
+					slot = (slot + 1) & mask;
+				}
+				int offset = slot * SLOT_SIZE;
+				table.put(offset + ROLE, (byte) userRole.ordinal());
+				table.put(offset + USERNAME_LENGTH, (byte) name.length);
+				table.putLong(offset + TOKEN_HI, hi);
+				table.putLong(offset + TOKEN_LO, lo);
+				table.putLong(offset + EXPIRES_AT, expiresAt);
+				table.put(offset + USERNAME, name);
+				table.put(offset + STATE, OCCUPIED);
+				size++;
+
+				int ringOffset = ((ringHead + ringCount) & mask) * RING_ENTRY_SIZE;
+				ring.putLong(ringOffset, hi);
+				ring.putLong(ringOffset + 8, lo);
+				ringCount++;
+			} finally {
+				lock.unlockWrite(stamp);
+			}
+		}
+
+		Entry get(long hi, long lo) {
+			long stamp = lock.tryOptimisticRead();
+			Entry entry = read(hi, lo);
+			if (!lock.validate(stamp)) {
+				stamp = lock.readLock();
+				try {
+					entry = read(hi, lo);
+				} finally {
+					lock.unlockRead(stamp);
+				}
+			}
+			return entry;
+		}
+
+		boolean remove(long hi, long lo) {
+			long stamp = lock.writeLock();
+			try {
+				int slot = find(hi, lo);
+				if (slot < 0) {
+					return false;
+				}
+				delete(slot);
+				return true;
+			} finally {
+				lock.unlockWrite(stamp);
+			}
+		}
+
+		// 낙관적 읽기 중에는 값이 찢어져 있을 수 있으므로 범위를 벗어나는 값은 null 로 처리하고 validate 에 맡긴다
+		private Entry read(long hi, long lo) {
+			int slot = find(hi, lo);
+			if (slot < 0) {
+				return null;
+			}
+			int offset = slot * SLOT_SIZE;
+			int roleOrdinal = table.get(offset + ROLE);
+			int length = table.get(offset + USERNAME_LENGTH) & 0xff;
+			if (roleOrdinal < 0 || roleOrdinal >= ROLES.length || length > MAX_USERNAME_BYTES) {
+				return null;
+			}
+			byte[] name = new byte[length];
+			table.get(offset + USERNAME, name);
+			return new Entry(new String(name, StandardCharsets.UTF_8), ROLES[roleOrdinal], table.getLong(offset + EXPIRES_AT));
+		}
+
+		private int find(long hi, long lo) {
+			int slot = home(hi);
+			for (int probes = 0; probes < capacity; probes++) {
+				int offset = slot * SLOT_SIZE;
+				if (table.get(offset + STATE) == EMPTY) {
+					return -1;
+				}
+				if (table.getLong(offset + TOKEN_HI) == hi && table.getLong(offset + TOKEN_LO) == lo) {
+					return slot;
+				}
+				slot = (slot + 1) & mask;
+			}
+			return -1;
+		}
+
+		// 링 버퍼 앞쪽(가장 먼저 발급된 토큰)부터 보관 기한이 지난 항목을 제거
+		private void evictExpired(long evictBefore) {
+			while (ringCount > 0) {
+				int ringOffset = ringHead * RING_ENTRY_SIZE;
+				int slot = find(ring.getLong(ringOffset), ring.getLong(ringOffset + 8));
+				if (slot >= 0 && table.getLong(slot * SLOT_SIZE + EXPIRES_AT) >= evictBefore) {
+					return;
+				}
+				if (slot >= 0) {
+					delete(slot);
+					evictions.increment();
+				}
+				popRing();
+			}
+		}
+
+		private void evictOldest() {
+			int ringOffset = ringHead * RING_ENTRY_SIZE;
+			int slot = find(ring.getLong(ringOffset), ring.getLong(ringOffset + 8));
+			if (slot >= 0) {
+				delete(slot);
+				evictions.increment();
+			}
+			popRing();
+		}
+
+		private void popRing() {
+			ringHead = (ringHead + 1) & mask;
+			ringCount--;
+		}
+
+		// 선형 탐사 테이블에서 툼스톤 없이 지우기 위해 뒤따르는 항목을 빈 자리로 당겨 온다 (backward shift deletion)
+		private void delete(int slot) {
+			int hole = slot;
+			int next = slot;
+			while (true) {
+				next = (next + 1) & mask;
+				int offset = next * SLOT_SIZE;
+				if (table.get(offset + STATE) == EMPTY) {
+					break;
+				}
+				int home = home(table.getLong(offset + TOKEN_HI));
+				if (((next - home) & mask) >= ((next - hole) & mask)) {
+					copySlot(next, hole);
+					hole = next;
+				}
+			}
+			table.put(hole * SLOT_SIZE + STATE, EMPTY);
+			size--;
+		}
+
+		private void copySlot(int from, int to) {
+			int fromOffset = from * SLOT_SIZE;
+			int toOffset = to * SLOT_SIZE;
+			for (int i = 0; i < SLOT_SIZE; i += Long.BYTES) {
+				table.putLong(toOffset + i, table.getLong(fromOffset + i));
+			}
+		}
+
+		private int home(long hi) {
+			return (int) (hi ^ (hi >>> 32)) & mask;
+		}
+	}
+}
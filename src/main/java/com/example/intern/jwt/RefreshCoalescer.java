@@ -0,0 +1,36 @@
+package com.example.intern.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 같은 리프레시 토큰으로 동시에 들어온 재발급 요청을 하나의 서명 작업으로 합친다.
+ * 먼저 들어온 요청이 발급한 액세스 토큰을 짧은 시간 동안 보관해 뒤따르는 요청이 그대로 재사용한다.
+ */
+public class RefreshCoalescer {
+
+	private final Cache<String, String> recentTokens;
+
+	public RefreshCoalescer(Duration window, long maximumSize) {
+		this.recentTokens = !window.isZero() && !window.isNegative() ? Caffeine.newBuilder()
+			.expireAfterWrite(window)
+			.maximumSize(maximumSize)
+			.recordStats()
+			.build() : null;
+	}
+
+	// 같은 키에 대한 동시 호출은 첫 호출의 mint 결과를 기다렸다가 함께 받는다
+	public String coalesce(String refreshToken, Supplier<String> mint) {
+		if (recentTokens == null) {
+			return mint.get();
+		}
+		return recentTokens.get(refreshToken, key -> mint.get());
+	}
+
+	public CacheStats stats() {
+		return recentTokens != null ? recentTokens.stats() : CacheStats.empty();
+	}
+}
@@ -0,0 +1,59 @@
+package com.example.intern.jwt;
+
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.util.Base64;
+import lombok.Getter;
+
+/**
+ * 키 링에 들어 있는 HS256 키 하나. 헤더 세그먼트, Mac, 코덱을 미리 만들어 두어 요청 경로에서는 조회만 한다.
+ * kid 가 null 인 키는 kid 헤더가 없는 기존 토큰용(jwt.secret.key)이다.
+ */
+@Getter
+class SigningKey {
+
+	private final String kid;
+	private final Key key;
+	private final String headerSegment;
+	private final HmacSignatureVerifier verifier;
+	private final FixedSchemaJwtCodec codec;
+	// 이 시각(ms) 이후로는 받지 않음. 키 파일에서 빠진 키에만 설정된다
+	private final long retireAt;
+
+	private SigningKey(String kid, Key key, long retireAt) {
+		this.kid = kid;
+		this.key = key;
+		this.headerSegment = kid == null ? FixedSchemaJwtCodec.HEADER_SEGMENT : headerSegment(kid);
+		this.verifier = new HmacSignatureVerifier(key);
+		this.codec = new FixedSchemaJwtCodec(verifier, headerSegment);
+		this.retireAt = retireAt;
+	}
+
+	static SigningKey of(String kid, String base64Secret) {
+		return new SigningKey(kid, Keys.hmacShaKeyFor(Base64.getDecoder().decode(base64Secret)), Long.MAX_VALUE);
+	}
+
+	// 같은 키를 정해진 시각까지만 받도록 표시한 사본 (Mac 과 버퍼는 새로 만든다)
+	SigningKey retireAt(long retireAtMillis) {
+		return new SigningKey(kid, key, retireAtMillis);
+	}
+
+	boolean isRetired(long nowMillis) {
+		return nowMillis > retireAt;
+	}
+
+	boolean hasSameSecret(SigningKey other) {
+		return MessageDigest.isEqual(key.getEncoded(), other.key.getEncoded());
+	}
+
+	// {"alg":"HS256","kid":"<kid>"} 의 Base64URL. kid 는 이스케이프가 필요 없는 문자로 제한한다
+	private static String headerSegment(String kid) {
+		if (!kid.matches("[A-Za-z0-9._-]{1,64}")) {
+			throw new IllegalArgumentException("kid 는 영문, 숫자, '.', '_', '-' 로 64자 이내여야 합니다: " + kid);
+		}
+		String header = "{\"alg\":\"HS256\",\"kid\":\"" + kid + "\"}";
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(header.getBytes(StandardCharsets.US_ASCII));
+	}
+}
@@ -0,0 +1,156 @@
+package com.example.intern.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 서명 키 모음의 불변 스냅샷. 새 토큰은 active 키로 서명하고, 검증할 때는 토큰의 헤더 세그먼트로 키를 바로 찾는다.
+ * <p>
+ * 키를 교체할 때는 새 스냅샷을 만들어 통째로 바꾸므로 요청 중에 키 집합이 바뀌는 일은 없다.
+ * 키 파일에서 빠진 키는 그 키로 서명된 토큰이 모두 만료될 때까지(retention) 검증에 계속 사용한다.
+ * kid 없는 기존 키(jwt.secret.key)도 키 파일로 처음 교체할 때 빠진 키로 보고 retention 뒤에 은퇴시킨다.
+ */
+class SigningKeyRing {
+
+	static final String ACTIVE_PROPERTY = "active";
+	static final String KEY_PROPERTY_PREFIX = "keys.";
+
+	private final SigningKey active;
+	private final Map<String, SigningKey> byHeaderSegment;
+	private final Map<String, SigningKey> byKid;
+	private final JwtParser jwtParser;
+
+	private SigningKeyRing(SigningKey active, Collection<SigningKey> keys) {
+		this.active = active;
+		this.byHeaderSegment = new HashMap<>();
+		this.byKid = new HashMap<>();
+		for (SigningKey key : keys) {
+			byHeaderSegment.put(key.getHeaderSegment(), key);
+			if (key.getKid() != null) {
+				byKid.put(key.getKid(), key);
+			}
+		}
+		// 고정 스키마가 아닌 토큰용 jjwt 파서. kid 헤더로 키를 고르며 스냅샷마다 한 번만 만든다
+		this.jwtParser = Jwts.parserBuilder().setSigningKeyResolver(new SigningKeyResolverAdapter() {
+			@Override
+			public Key resolveSigningKey(JwsHeader header, Claims claims) {
+				SigningKey key = header.getKeyId() != null ? byKid.get(header.getKeyId())
+					: byHeaderSegment.get(FixedSchemaJwtCodec.HEADER_SEGMENT);
+				if (key == null || key.isRetired(System.currentTimeMillis())) {
+					throw new SignatureException("알 수 없는 서명 키입니다: " + header.getKeyId());
+				}
+				return key.getKey();
+			}
+		}).build();
+	}
+
+	// kid 없는 단일 키 (키 파일을 쓰지 않을 때)
+	static SigningKeyRing single(SigningKey legacy) {
+		return new SigningKeyRing(legacy, List.of(legacy));
+	}
+
+	/**
+	 * 키 파일 내용으로 새 스냅샷을 만든다. 이전 스냅샷에만 있던 키(kid 없는 기존 키 포함)는 retention 동안 더 받는다.
+	 *
+	 * @param keys      kid -> 키
+	 * @param activeKid 새 토큰을 서명할 키의 kid
+	 */
+	static SigningKeyRing rotate(Map<String, SigningKey> keys, String activeKid,
+		SigningKeyRing previous, long nowMillis, long retentionMillis) {
+		SigningKey active = keys.get(activeKid);
+		if (active == null) {
+			throw new IllegalArgumentException("active 키가 키 목록에 없습니다: " + activeKid);
+		}
+		Map<String, SigningKey> merged = new LinkedHashMap<>();
+		if (previous != null) {
+			// 키 파일에서 빠진 키는 그 키로 서명된 토큰이 만료될 때까지 유지 (같은 kid 의 비밀 값을 바꾸면 기존 토큰은 무효)
+			for (SigningKey key : previous.byHeaderSegment.values()) {
+				if ((key.getKid() == null || !keys.containsKey(key.getKid())) && !key.isRetired(nowMillis)) {
+					merged.put(key.getHeaderSegment(),
+						key.getRetireAt() == Long.MAX_VALUE ? key.retireAt(nowMillis + retentionMillis) : key);
+				}
+			}
+		}
+		for (SigningKey key : keys.values()) {
+			merged.put(key.getHeaderSegment(), key);
+		}
+		return new SigningKeyRing(active, merged.values());
+	}
+
+	/**
+	 * 키 파일(properties) 을 읽는다.
+	 * <pre>
+	 * active=2024-06
+	 * keys.2024-05=&lt;base64 secret&gt;
+	 * keys.2024-06=&lt;base64 secret&gt;
+	 * </pre>
+	 */
+	static KeyFile read(Path path) throws IOException {
+		Properties properties = new Properties();
+		try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			properties.load(reader);
+		}
+		Map<String, SigningKey> keys = new LinkedHashMap<>();
+		for (String name : properties.stringPropertyNames()) {
+			if (name.startsWith(KEY_PROPERTY_PREFIX)) {
+				String kid = name.substring(KEY_PROPERTY_PREFIX.length());
+				keys.put(kid, SigningKey.of(kid, properties.getProperty(name).trim()));
+			}
+		}
+		return new KeyFile(properties.getProperty(ACTIVE_PROPERTY, "").trim(), keys);
+	}
+
+	SigningKey active() {
+		return active;
+	}
+
+	// 이전 스냅샷에 있던 kid 의 비밀 값을 바꿨으면 true. 그 kid 로 검증해 캐시한 토큰은 더 이상 믿을 수 없다
+	boolean replacesSecretOf(SigningKeyRing previous) {
+		for (SigningKey key : byKid.values()) {
+			SigningKey old = previous.byKid.get(key.getKid());
+			if (old != null && !key.hasSameSecret(old)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// 토큰의 헤더 세그먼트(첫 '.' 앞)로 키를 찾는다. 직접 만든 형태의 헤더가 아니면 null
+	SigningKey find(String token, long nowMillis) {
+		int dot = token.indexOf('.');
+		if (dot <= 0) {
+			return null;
+		}
+		String activeHeader = active.getHeaderSegment();
+		SigningKey key = dot == activeHeader.length() && token.startsWith(activeHeader) ? active
+			: byHeaderSegment.get(token.substring(0, dot));
+		return key != null && !key.isRetired(nowMillis) ? key : null;
+	}
+
+	JwtParser parser() {
+		return jwtParser;
+	}
+
+	int size() {
+		return byHeaderSegment.size();
+	}
+
+	record KeyFile(String activeKid, Map<String, SigningKey> keys) {
+	}
+}
@@ -0,0 +1,128 @@
+package com.example.intern.jwt;
+
+import com.example.intern.global.util.BloomFilter;
+import com.example.intern.user.entity.User;
+import io.jsonwebtoken.Claims;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 폐기된 토큰 목록. 토큰 단위(jti)와 사용자 단위(해당 시각 이전에 발급된 모든 토큰) 폐기를 지원한다.
+ * <p>
+ * 대부분의 요청은 폐기되지 않은 토큰이므로 앞단의 Bloom 필터가 맵 조회 없이 바로 걸러 낸다.
+ * 필터가 "있을 수도 있음" 이라고 답한 경우에만 정확한 집합을 확인한다.
+ * 만료 시각이 지난 항목은 {@link #prune(long)} 에서 지우고 필터를 다시 만든다.
+ */
+public class TokenRevocationList {
+
+	private static final long TOKEN_SEED = 0x9E3779B97F4A7C15L;
+	private static final long USER_SEED = 0xC2B2AE3D27D4EB4FL;
+	private static final int MIN_EXPECTED_INSERTIONS = 1024;
+	private static final double DEFAULT_FALSE_POSITIVE_RATE = 0.001;
+
+	private final int expectedInsertions;
+	private final double falsePositiveRate;
+	private final long userRevocationRetentionMillis;
+
+	// jti -> 토큰 만료 시각(ms)
+	private final ConcurrentHashMap<String, Long> revokedTokens = new ConcurrentHashMap<>();
+	// username -> 폐기 시각(ms), 이 시각보다 먼저 발급된 토큰은 모두 폐기
+	private final ConcurrentHashMap<String, Long> revokedUsers = new ConcurrentHashMap<>();
+	private volatile BloomFilter filter;
+
+	/**
+	 * @param userRevocationRetentionMillis 사용자 단위 폐기를 유지할 시간. 가장 긴 토큰 수명(리프레시 토큰) 이상이어야 한다.
+	 */
+	public TokenRevocationList(int expectedInsertions, double falsePositiveRate, long userRevocationRetentionMillis) {
+		this.expectedInsertions = Math.max(MIN_EXPECTED_INSERTIONS, expectedInsertions);
+		this.falsePositiveRate = falsePositiveRate > 0 && falsePositiveRate < 1 ? falsePositiveRate : DEFAULT_FALSE_POSITIVE_RATE;
+		this.userRevocationRetentionMillis = userRevocationRetentionMillis;
+		this.filter = new BloomFilter(this.expectedInsertions, this.falsePositiveRate);
+	}
+
+	public boolean isRevoked(Claims claims) {
+		BloomFilter current = filter;
+		String tokenId = claims.getId();
+		if (tokenId != null && current.mightContain(tokenId, TOKEN_SEED) && revokedTokens.containsKey(tokenId)) {
+			return true;
+		}
+		String username = subjectOf(claims);
+		if (username != null && current.mightContain(username, USER_SEED)) {
+			Long revokedAt = revokedUsers.get(username);
+			if (revokedAt != null) {
+				return issuedBefore(claims, revokedAt);
+			}
+		}
+		return false;
+	}
+
+	// 밀리초 발급 시각(iatms)이 있으면 폐기 시각보다 먼저 발급된 토큰만 폐기한다 (폐기 직후 다시 로그인한 토큰은 유효)
+	// 초 단위 iat 만 있는 토큰은 구분할 수 없으므로 같은 초에 발급된 것도 폐기한다
+	private static boolean issuedBefore(Claims claims, long revokedAtMillis) {
+		if (claims.get(JwtUtil.ISSUED_AT_MILLIS_KEY) instanceof Number issuedAtMillis) {
+			return issuedAtMillis.longValue() < revokedAtMillis;
+		}
+		Date issuedAt = claims.getIssuedAt();
+		return issuedAt == null
+			|| TimeUnit.MILLISECONDS.toSeconds(issuedAt.getTime()) <= TimeUnit.MILLISECONDS.toSeconds(revokedAtMillis);
+	}
+
+	// 압축 토큰(sub 없이 uid 만 있음)의 사용자 단위 폐기 키
+	public static String userIdSubject(long userId) {
+		return User.ID_KEY_PREFIX + userId;
+	}
+
+	private static String subjectOf(Claims claims) {
+		String subject = claims.getSubject();
+		if (subject != null) {
+			return subject;
+		}
+		Object userId = claims.get(JwtUtil.USER_ID_KEY);
+		return userId instanceof Number number ? userIdSubject(number.longValue()) : null;
+	}
+
+	public void revokeToken(String tokenId, long expiresAtMillis) {
+		revokedTokens.put(tokenId, expiresAtMillis);
+		addToFilter(tokenId, TOKEN_SEED);
+	}
+
+	public void revokeAllForUser(String username, long revokedAtMillis) {
+		revokedUsers.merge(username, revokedAtMillis, Math::max);
+		addToFilter(username, USER_SEED);
+	}
+
+	/**
+	 * 만료된 항목을 지우고 남은 항목으로 필터를 다시 만든다.
+	 * 교체 직전에 추가된 항목이 새 필터에서 빠지지 않도록 교체 후 한 번 더 채운다 (추가는 멱등).
+	 */
+	public void prune(long nowMillis) {
+		revokedTokens.values().removeIf(expiresAt -> expiresAt < nowMillis);
+		long userCutoff = nowMillis - userRevocationRetentionMillis;
+		revokedUsers.values().removeIf(revokedAt -> revokedAt < userCutoff);
+
+		BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, size() * 2), falsePositiveRate);
+		populate(rebuilt);
+		filter = rebuilt;
+		populate(rebuilt);
+	}
+
+	public int size() {
+		return revokedTokens.size() + revokedUsers.size();
+	}
+
+	// 필터 교체와 겹친 경우 새 필터에도 추가한다
+	private void addToFilter(String key, long seed) {
+		BloomFilter current = filter;
+		current.put(key, seed);
+		BloomFilter latest = filter;
+		if (latest != current) {
+			latest.put(key, seed);
+		}
+	}
+
+	private void populate(BloomFilter target) {
+		revokedTokens.keySet().forEach(tokenId -> target.put(tokenId, TOKEN_SEED));
+		revokedUsers.keySet().forEach(username -> target.put(username, USER_SEED));
+	}
+}
@@ -0,0 +1,65 @@
+package com.example.intern.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 토큰 검증 결과. 검증 실패를 예외 대신 상태 값으로 돌려준다.
+ * 만료된 토큰은 서명이 유효한 경우에만 EXPIRED 와 함께 Claims 를 담는다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TokenVerification {
+
+	public enum Status {
+		VALID, EXPIRED, BAD_SIGNATURE, MALFORMED, UNSUPPORTED, UNKNOWN, REVOKED
+	}
+
+	private static final TokenVerification BAD_SIGNATURE = new TokenVerification(Status.BAD_SIGNATURE, null);
+	private static final TokenVerification MALFORMED = new TokenVerification(Status.MALFORMED, null);
+	private static final TokenVerification UNSUPPORTED = new TokenVerification(Status.UNSUPPORTED, null);
+	private static final TokenVerification UNKNOWN = new TokenVerification(Status.UNKNOWN, null);
+	private static final TokenVerification REVOKED = new TokenVerification(Status.REVOKED, null);
+
+	private final Status status;
+	private final Claims claims;
+
+	public static TokenVerification valid(Claims claims) {
+		return new TokenVerification(Status.VALID, claims);
+	}
+
+	public static TokenVerification expired(Claims claims) {
+		return new TokenVerification(Status.EXPIRED, claims);
+	}
+
+	public static TokenVerification badSignature() {
+		return BAD_SIGNATURE;
+	}
+
+	public static TokenVerification malformed() {
+		return MALFORMED;
+	}
+
+	public static TokenVerification unsupported() {
+		return UNSUPPORTED;
+	}
+
+	// 저장소에 없는(폐기되었거나 밀려난) 불투명 토큰
+	public static TokenVerification unknown() {
+		return UNKNOWN;
+	}
+
+	public static TokenVerification revoked() {
+		return REVOKED;
+	}
+
+	public boolean isValid() {
+		return status == Status.VALID;
+	}
+
+	public boolean isExpired() {
+		return status == Status.EXPIRED;
+	}
+}
@@ -0,0 +1,82 @@
+package com.example.intern.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.jsonwebtoken.Claims;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증을 마친 토큰의 Claims 를 캐시한다.
+ * 각 항목은 토큰의 exp 시각에 만료되며, 전체 크기는 대략적인 바이트 수로 제한한다.
+ */
+public class VerifiedTokenCache {
+
+	// 토큰 문자열 외에 Claims 와 캐시 노드가 차지하는 대략적인 바이트 수
+	private static final int ENTRY_OVERHEAD_BYTES = 512;
+
+	private final Cache<String, Claims> cache;
+
+	public VerifiedTokenCache(long maximumBytes) {
+		this.cache = maximumBytes > 0 ? Caffeine.newBuilder()
+			.maximumWeight(maximumBytes)
+			.weigher((String token, Claims claims) -> token.length() + ENTRY_OVERHEAD_BYTES)
+			.expireAfter(new ClaimsExpiry())
+			.recordStats()
+			.build() : null;
+	}
+
+	public Claims get(String token) {
+		return cache != null ? cache.getIfPresent(token) : null;
+	}
+
+	public void put(String token, Claims claims) {
+		if (cache != null && remainingNanos(claims) > 0) {
+			cache.put(token, claims);
+		}
+	}
+
+	public void invalidate(String token) {
+		if (cache != null) {
+			cache.invalidate(token);
+		}
+	}
+
+	public void invalidateAll() {
+		if (cache != null) {
+			cache.invalidateAll();
+		}
+	}
+
+	public CacheStats stats() {
+		return cache != null ? cache.stats() : CacheStats.empty();
+	}
+
+	private static long remainingNanos(Claims claims) {
+		Date expiration = claims.getExpiration();
+		if (expiration == null) {
+			return 0;
+		}
+		return TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis());
+	}
+
+	private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+		@Override
+		public long expireAfterCreate(String token, Claims claims, long currentTime) {
+			return Math.max(0, remainingNanos(claims));
+		}
+
+		@Override
+		public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+			return Math.max(0, remainingNanos(claims));
+		}
+
+		@Override
+		public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
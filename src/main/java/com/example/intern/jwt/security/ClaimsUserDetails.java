@@ -0,0 +1,73 @@
+package com.example.intern.jwt.security;
+
+import com.example.intern.user.entity.User;
+import com.example.intern.user.entity.UserRole;
+import java.util.Collection;
+import java.util.function.Function;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * 검증된 액세스 토큰의 클레임만으로 만든 principal.
+ * User 엔티티는 컨트롤러가 getUser()를 호출할 때 처음 한 번만 조회한다.
+ * 요청마다 만들어지므로 필드만 담고, 권한 목록과 조회 함수는 공유 인스턴스를 쓴다.
+ */
+public class ClaimsUserDetails implements UserDetails {
+
+	private final String username;
+	private final UserRole userRole;
+	private final Function<String, User> userLoader;
+	private User user;
+
+	public ClaimsUserDetails(String username, UserRole userRole, Function<String, User> userLoader) {
+		this.username = username;
+		this.userRole = userRole;
+		this.userLoader = userLoader;
+	}
+
+	public UserRole getUserRole() {
+		return userRole;
+	}
+
+	public User getUser() {
+		if (user == null) {
+			user = userLoader.apply(username);
+		}
+		return user;
+	}
+
+	@Override
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return userRole.getGrantedAuthorities();
+	}
+
+	@Override
+	public String getPassword() {
+		return null; // 토큰 기반 principal은 자격 증명을 보관하지 않음
+	}
+
+	@Override
+	public String getUsername() {
+		return username;
+	}
+
+	@Override
+	public boolean isAccountNonExpired() {
+		return true;
+	}
+
+	@Override
+	public boolean isAccountNonLocked() {
+		return true;
+	}
+
+	@Override
+	public boolean isCredentialsNonExpired() {
+		return true;
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+}
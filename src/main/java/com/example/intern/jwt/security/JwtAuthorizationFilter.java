@@ -1,8 +1,14 @@
 package com.example.intern.jwt.security;
 
+import com.example.intern.global.metrics.AuthMetrics;
+import com.example.intern.global.metrics.AuthMetrics.FilterOutcome;
+import com.example.intern.global.metrics.ServerTiming;
+import com.example.intern.global.metrics.ServerTiming.Phase;
+import com.example.intern.global.metrics.ServerTimingResponseWrapper;
 import com.example.intern.jwt.JwtUtil;
+import com.example.intern.jwt.TokenVerification;
+import com.example.intern.user.entity.UserRole;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -11,10 +17,9 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -24,57 +29,163 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
 	private final JwtUtil jwtUtil;
 	private final UserDetailServiceImpl userDetailsService;
+	// true 이면 principal을 DB 조회 없이 액세스 토큰 클레임으로만 구성
+	private final boolean statelessPrincipal;
+	private final AuthMetrics authMetrics;
+	private boolean serverTimingEnabled;
 
-	public JwtAuthorizationFilter(JwtUtil jwtUtil, UserDetailServiceImpl userDetailsService) {
+	public JwtAuthorizationFilter(JwtUtil jwtUtil, UserDetailServiceImpl userDetailsService, boolean statelessPrincipal,
+		AuthMetrics authMetrics) {
 		this.jwtUtil = jwtUtil;
 		this.userDetailsService = userDetailsService;
+		this.statelessPrincipal = statelessPrincipal;
+		this.authMetrics = authMetrics;
+	}
+
+	// true 이면 응답에 Server-Timing 헤더로 구간별 처리 시간을 붙임
+	public void setServerTimingEnabled(boolean serverTimingEnabled) {
+		this.serverTimingEnabled = serverTimingEnabled;
 	}
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain) throws ServletException, IOException {
+		if (!serverTimingEnabled) {
+			authorize(req, res, filterChain);
+			return;
+		}
+		ServerTiming timing = ServerTiming.begin();
+		ServerTimingResponseWrapper response = new ServerTimingResponseWrapper(res, timing);
+		try {
+			authorize(req, response, filterChain);
+			response.attachServerTiming();
+		} finally {
+			ServerTiming.end(req.isAsyncStarted());
+		}
+	}
+
+	private void authorize(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain) throws ServletException, IOException {
+		long start = System.nanoTime();
 		String accessToken = jwtUtil.getTokenFromHeader(JwtUtil.AUTHORIZATION_HEADER, req);
 
 		if (StringUtils.hasText(accessToken)) {
-			try {
-				Claims info = jwtUtil.getUserInfoFromToken(accessToken);
-				setAuthentication(info.getSubject());
-			} catch (ExpiredJwtException e) {
-				handleExpiredAccessToken(req, res);
-				return;
-			} catch (Exception e) {
-				log.error("Token Error: {}", e.getMessage(), e);
+			recordTiming(Phase.TOKEN, start);
+			long verifyStart = System.nanoTime();
+			TokenVerification verification = jwtUtil.verify(accessToken);
+			recordTiming(Phase.VERIFY, verifyStart);
+			// 저장소에서 밀려난 불투명 토큰(UNKNOWN)도 만료된 토큰처럼 리프레시 토큰으로 재발급한다
+			if (verification.isExpired() || verification.getStatus() == TokenVerification.Status.UNKNOWN) {
+				boolean refreshed = handleExpiredAccessToken(req, res, verification.getClaims());
+				authMetrics.recordFilter(refreshed ? FilterOutcome.EXPIRED_REFRESHED : FilterOutcome.EXPIRED_REJECTED, verifyStart);
+				if (!refreshed) {
+					return;
+				}
+			} else if (!verification.isValid()) {
+				authMetrics.recordFilter(FilterOutcome.INVALID, verifyStart);
+				log.debug("Token Error: {}", verification.getStatus());
 				SecurityContextHolder.clearContext();
 				return;
+			} else {
+				Claims claims = verification.getClaims();
+				boolean authenticated = authenticate(claims, jwtUtil.getUserRoleFromClaims(claims));
+				authMetrics.recordFilter(authenticated ? FilterOutcome.VALID : FilterOutcome.INVALID, verifyStart);
+				if (!authenticated) {
+					return;
+				}
 			}
 		}
+		if (serverTimingEnabled) {
+			ServerTiming.current().startHandler();
+		}
 		filterChain.doFilter(req, res);
 	}
 
-	private void handleExpiredAccessToken(HttpServletRequest req, HttpServletResponse res) throws IOException {
+	private void recordTiming(Phase phase, long startNanos) {
+		if (serverTimingEnabled) {
+			ServerTiming.addToCurrent(phase, startNanos);
+		}
+	}
+
+	/**
+	 * 리프레시 토큰을 한 번만 검증하고, 만료된 액세스 토큰의 클레임(서명 검증 완료)으로 새 토큰을 발급한다.
+	 * 발급한 토큰은 다시 파싱하지 않고 같은 사용자, role 로 인증 정보를 설정한다.
+	 * 저장소에서 밀려난 불투명 토큰(expiredClaims 가 null)이나 만료된 지 액세스 토큰 유효 시간 이상 지난 토큰은
+	 * 그 사이 바뀌었을 수 있는 role 을 믿지 않고, 리프레시 토큰의 사용자를 읽어 현재 role 로 발급한다.
+	 */
+	private boolean handleExpiredAccessToken(HttpServletRequest req, HttpServletResponse res, Claims expiredClaims) throws IOException {
+		long refreshStart = System.nanoTime();
 		String refreshToken = getRefreshTokenFromCookies(req);
-		if (StringUtils.hasText(refreshToken) && jwtUtil.validateToken(refreshToken)) {
-			String newAccessToken = jwtUtil.refreshAccessToken(refreshToken);
-			jwtUtil.addJwtToHeader(JwtUtil.AUTHORIZATION_HEADER, JwtUtil.BEARER_PREFIX + newAccessToken, res);
-			Claims info = jwtUtil.getUserInfoFromToken(newAccessToken);
-			setAuthentication(info.getSubject());
-		} else {
-			res.setStatus(HttpStatus.UNAUTHORIZED.value());
-			res.setContentType("application/json");
-			res.setCharacterEncoding("UTF-8");
-			res.getWriter().write("{\"message\":\"리프레시 토큰을 재발급 받으세요\"}");
+		TokenVerification refresh = jwtUtil.verify(refreshToken);
+
+		if (refresh.isValid() && (expiredClaims == null || jwtUtil.isSameSubject(expiredClaims, refresh.getClaims()))) {
+			boolean reloadRole = expiredClaims == null || jwtUtil.isStaleExpiredToken(expiredClaims);
+			UserDetails storedUser = reloadRole ? loadStoredUser(refresh.getClaims()) : null;
+			UserRole userRole = reloadRole ? roleOf(storedUser) : jwtUtil.getUserRoleFromClaims(expiredClaims);
+			if (userRole != null) {
+				String newAccessToken = jwtUtil.refreshAccessToken(refreshToken, refresh.getClaims(), userRole);
+				jwtUtil.addJwtToHeader(JwtUtil.AUTHORIZATION_HEADER, JwtUtil.BEARER_PREFIX + newAccessToken, res);
+				recordTiming(Phase.REFRESH, refreshStart);
+				return storedUser != null ? authenticate(storedUser) : authenticate(expiredClaims, userRole);
+			}
 		}
+
+		res.setStatus(HttpStatus.UNAUTHORIZED.value());
+		res.setContentType("application/json");
+		res.setCharacterEncoding("UTF-8");
+		res.getWriter().write("{\"message\":\"리프레시 토큰을 재발급 받으세요\"}");
+		return false;
+	}
+
+	private boolean authenticate(Claims claims, UserRole userRole) {
+		try {
+			setAuthentication(loadUserDetails(claims, userRole));
+			return true;
+		} catch (Exception e) {
+			log.error("Token Error: {}", e.getMessage(), e);
+			SecurityContextHolder.clearContext();
+			return false;
+		}
+	}
+
+	private boolean authenticate(UserDetails userDetails) {
+		setAuthentication(userDetails);
+		return true;
 	}
 
-	private void setAuthentication(String username) {
-		SecurityContext context = SecurityContextHolder.createEmptyContext();
-		Authentication authentication = createAuthentication(username);
-		context.setAuthentication(authentication);
-		SecurityContextHolder.setContext(context);
+	// 요청마다 새로 만드는 객체는 principal, Authentication, SecurityContext 세 개뿐 (권한 목록은 role 별 공유)
+	private void setAuthentication(UserDetails userDetails) {
+		Authentication authentication = new PrincipalAuthentication(userDetails);
+		SecurityContextHolder.setContext(new SecurityContextImpl(authentication));
 	}
 
-	private Authentication createAuthentication(String username) {
-		UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-		return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+	// 리프레시 토큰의 사용자를 DB(또는 UserDetails 캐시)에서 읽는다. 없는 사용자면 null
+	private UserDetails loadStoredUser(Claims refreshClaims) {
+		try {
+			Long userId = jwtUtil.getUserIdFromClaims(refreshClaims);
+			return userId != null
+				? userDetailsService.loadUserById(userId)
+				: userDetailsService.loadUserByUsername(refreshClaims.getSubject());
+		} catch (RuntimeException e) {
+			log.debug("Refresh Error: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private static UserRole roleOf(UserDetails userDetails) {
+		return userDetails instanceof UserDetailsImpl stored ? stored.getUser().getUserRole() : null;
+	}
+
+	// 압축 토큰에는 username 이 없으므로 stateless 모드에서도 id 로 principal 을 조회한다 (UserDetails 캐시 사용)
+	private UserDetails loadUserDetails(Claims claims, UserRole userRole) {
+		Long userId = jwtUtil.getUserIdFromClaims(claims);
+		if (userId == null && statelessPrincipal && userRole != null) {
+			return userDetailsService.loadUserByClaims(claims.getSubject(), userRole);
+		}
+		long start = System.nanoTime();
+		UserDetails userDetails = userId != null
+			? userDetailsService.loadUserById(userId)
+			: userDetailsService.loadUserByUsername(claims.getSubject());
+		recordTiming(Phase.PRINCIPAL, start);
+		return userDetails;
 	}
 
 	private String getRefreshTokenFromCookies(HttpServletRequest req) {
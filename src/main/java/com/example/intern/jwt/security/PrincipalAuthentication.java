@@ -0,0 +1,85 @@
+package com.example.intern.jwt.security;
+
+import java.util.Collection;
+import java.util.Objects;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * 액세스 토큰으로 인증된 요청의 Authentication.
+ * UsernamePasswordAuthenticationToken 과 달리 권한 목록을 복사하지 않고 principal 의 (role 별 공유) 목록을 그대로 돌려준다.
+ * 사전 인증 토큰처럼 인증 해제(false)는 허용하고, 인증 상태로 되돌리는 것(true)은 생성자로만 할 수 있다.
+ */
+public final class PrincipalAuthentication implements Authentication {
+
+	private static final long serialVersionUID = 1L;
+
+	private final UserDetails principal;
+	private boolean authenticated = true;
+
+	public PrincipalAuthentication(UserDetails principal) {
+		this.principal = principal;
+	}
+
+	@Override
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return principal.getAuthorities();
+	}
+
+	@Override
+	public Object getCredentials() {
+		return null;
+	}
+
+	@Override
+	public Object getDetails() {
+		return null;
+	}
+
+	@Override
+	public UserDetails getPrincipal() {
+		return principal;
+	}
+
+	@Override
+	public boolean isAuthenticated() {
+		return authenticated;
+	}
+
+	@Override
+	public void setAuthenticated(boolean isAuthenticated) {
+		if (isAuthenticated) {
+			throw new IllegalArgumentException("인증된 Authentication 은 생성자로만 만들 수 있습니다.");
+		}
+		this.authenticated = false;
+	}
+
+	@Override
+	public String getName() {
+		return principal.getUsername();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof PrincipalAuthentication other)) {
+			return false;
+		}
+		return authenticated == other.authenticated
+			&& principal.equals(other.principal)
+			&& getAuthorities().equals(other.getAuthorities());
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(principal, authenticated);
+	}
+
+	@Override
+	public String toString() {
+		return "PrincipalAuthentication[name=" + getName() + ", authorities=" + getAuthorities() + "]";
+	}
+}
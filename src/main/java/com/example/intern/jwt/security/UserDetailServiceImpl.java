@@ -3,7 +3,9 @@ package com.example.intern.jwt.security;
 import com.example.intern.global.exception.ErrorCode;
 import com.example.intern.global.exception.GlobalException;
 import com.example.intern.user.entity.User;
+import com.example.intern.user.entity.UserRole;
 import com.example.intern.user.repository.UserRepository;
+import java.util.function.Function;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -13,16 +15,58 @@ import org.springframework.stereotype.Service;
 public class UserDetailServiceImpl implements UserDetailsService {
 
 	private final UserRepository userRepository;
+	private final UserDetailsCache userDetailsCache;
+	// 요청마다 람다를 만들지 않도록 principal 들이 공유하는 조회 함수
+	private final Function<String, User> userLoader = this::findUser;
 
-	public UserDetailServiceImpl(UserRepository userRepository) {
+	public UserDetailServiceImpl(UserRepository userRepository, UserDetailsCache userDetailsCache) {
 		this.userRepository = userRepository;
+		this.userDetailsCache = userDetailsCache;
 	}
 
 	@Override
 	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-		User user = userRepository.findByUsername(username)
-			.orElseThrow(() -> new GlobalException(ErrorCode.NOT_FOUND_USERNAME));
+		// id 키와 같은 접두사의 username 은 캐시에서 다른 사용자의 항목을 가리킬 수 있으므로 조회하지 않는다
+		if (User.isReservedUsername(username)) {
+			throw GlobalException.of(ErrorCode.NOT_FOUND_USERNAME);
+		}
+		if (userDetailsCache.isEnabled()) {
+			return userDetailsCache.get(username, name -> new UserDetailsImpl(withoutPassword(findUser(name))));
+		}
+		return new UserDetailsImpl(findUser(username));
+	}
+
+	// 압축 토큰(uid 클레임)용 기본 키 조회
+	public UserDetails loadUserById(long userId) {
+		if (userDetailsCache.isEnabled()) {
+			return userDetailsCache.get(UserDetailsCache.idKey(userId),
+				key -> new UserDetailsImpl(withoutPassword(findUser(userId))));
+		}
+		return new UserDetailsImpl(findUser(userId));
+	}
+
+	// DB 조회 없이 토큰 클레임으로 principal 생성, User 엔티티는 필요할 때 조회
+	public UserDetails loadUserByClaims(String username, UserRole userRole) {
+		return new ClaimsUserDetails(username, userRole, userLoader);
+	}
+
+	private User findUser(String username) {
+		return userRepository.findByUsername(username)
+			.orElseThrow(() -> GlobalException.of(ErrorCode.NOT_FOUND_USERNAME));
+	}
+
+	private User findUser(long userId) {
+		return userRepository.findById(userId)
+			.orElseThrow(() -> GlobalException.of(ErrorCode.NOT_FOUND_USERNAME));
+	}
 
-		return new UserDetailsImpl(user);
+	// 캐시에 오래 남는 principal 에는 비밀번호 해시를 보관하지 않음
+	private User withoutPassword(User user) {
+		return User.builder()
+			.id(user.getId())
+			.username(user.getUsername())
+			.nickname(user.getNickname())
+			.userRole(user.getUserRole())
+			.build();
 	}
 }
@@ -0,0 +1,88 @@
+package com.example.intern.jwt.security;
+
+import com.example.intern.global.invalidation.InvalidationBus;
+import com.example.intern.global.invalidation.InvalidationEvent;
+import com.example.intern.user.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Duration;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * username 으로 조회한 UserDetails 를 캐시한다.
+ * 크기 제한(W-TinyLFU)과 TTL 을 두고, 사용자 정보가 바뀌면 invalidate 로 즉시 제거한다.
+ */
+@Component
+public class UserDetailsCache {
+
+	private final Cache<String, UserDetails> cache;
+
+	public UserDetailsCache(
+		@Value("${user.details-cache.enabled:false}") boolean enabled,
+		@Value("${user.details-cache.maximum-size:10000}") long maximumSize,
+		@Value("${user.details-cache.ttl:PT5M}") Duration ttl
+	) {
+		this.cache = enabled ? Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(ttl)
+			.recordStats()
+			.build() : null;
+	}
+
+	public static UserDetailsCache disabled() {
+		return new UserDetailsCache(false, 0, Duration.ZERO);
+	}
+
+	// id 로 조회한 항목의 키. username 은 이 접두사로 시작할 수 없으므로(가입, 가져오기에서 거절) 겹치지 않는다
+	public static String idKey(long userId) {
+		return User.ID_KEY_PREFIX + userId;
+	}
+
+	// idKey 로 만든 키면 사용자 id, 아니면 null
+	public static Long userIdOf(String key) {
+		if (!User.isReservedUsername(key)) {
+			return null;
+		}
+		try {
+			return Long.parseLong(key.substring(User.ID_KEY_PREFIX.length()));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	// 다른 노드에서 바뀐 사용자 정보도 이 노드의 캐시에서 제거
+	@Autowired(required = false)
+	public void setInvalidationBus(InvalidationBus invalidationBus) {
+		invalidationBus.subscribe(event -> {
+			if (event.getType() == InvalidationEvent.Type.USER_CHANGED) {
+				invalidate(event.getKey());
+			}
+		});
+	}
+
+	public UserDetails get(String username, Function<String, UserDetails> loader) {
+		if (cache == null) {
+			return loader.apply(username);
+		}
+		return cache.get(username, loader);
+	}
+
+	public void invalidate(String username) {
+		if (cache != null) {
+			cache.invalidate(username);
+		}
+	}
+
+	public boolean isEnabled() {
+		return cache != null;
+	}
+
+	public CacheStats stats() {
+		return cache != null ? cache.stats() : CacheStats.empty();
+	}
+}
@@ -1,13 +1,10 @@
 package com.example.intern.jwt.security;
 
 import com.example.intern.user.entity.User;
-import com.example.intern.user.entity.UserRole;
-import java.util.ArrayList;
 import java.util.Collection;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 @Getter
@@ -18,15 +15,7 @@ public class UserDetailsImpl implements UserDetails{
 
 	@Override
 	public Collection<? extends GrantedAuthority> getAuthorities() {
-
-		UserRole role = user.getUserRole();
-		String roleString = role.getAuthority();
-
-		SimpleGrantedAuthority simpleGrantedAuthority = new SimpleGrantedAuthority(roleString);
-		Collection<GrantedAuthority> authorities = new ArrayList<>();
-		authorities.add(simpleGrantedAuthority);
-
-		return authorities;
+		return user.getUserRole().getGrantedAuthorities();
 	}
 
 	@Override
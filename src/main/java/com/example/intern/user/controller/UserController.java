@@ -5,14 +5,20 @@ import com.example.intern.user.dto.LoginRequestDto;
 import com.example.intern.user.dto.SignUpRequestDto;
 import com.example.intern.user.dto.UserResponseDto;
 import com.example.intern.user.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -40,4 +46,51 @@ public class UserController {
 		return ResponseEntity.ok().body(new CommonResponseDto<>(
 			HttpStatus.OK.value(), "로그인이 완료되었습니다.", token));
 	}
+
+	@GetMapping("/username/availability")
+	public ResponseEntity<CommonResponseDto<Boolean>> checkUsernameAvailability(
+		@RequestParam String username
+	) {
+		boolean available = userService.isUsernameAvailable(username);
+		return ResponseEntity.ok().body(new CommonResponseDto<>(HttpStatus.OK.value(),
+			available ? "사용 가능한 아이디입니다." : "이미 사용 중인 아이디입니다.", available));
+	}
+
+	@PostMapping("/logout")
+	public ResponseEntity<CommonResponseDto<Void>> logout(
+		HttpServletRequest request,
+		HttpServletResponse response
+	) {
+		userService.logout(request, response);
+		return ResponseEntity.ok().body(new CommonResponseDto<>(
+			HttpStatus.OK.value(), "로그아웃이 완료되었습니다.", null));
+	}
+
+	@PostMapping("/logout/all")
+	public ResponseEntity<CommonResponseDto<Void>> logoutAll(
+		@AuthenticationPrincipal UserDetails userDetails,
+		HttpServletResponse response
+	) {
+		userService.logoutAll(userDetails.getUsername(), response);
+		return ResponseEntity.ok().body(new CommonResponseDto<>(
+			HttpStatus.OK.value(), "모든 기기에서 로그아웃되었습니다.", null));
+	}
+
+	@PostMapping("/signup/async")
+	public CompletableFuture<ResponseEntity<CommonResponseDto<UserResponseDto>>> signUpAsync(
+		@RequestBody @Valid SignUpRequestDto signUpRequestDto
+	) {
+		return userService.signUpAsync(signUpRequestDto)
+			.thenApply(userResponseDto -> ResponseEntity.ok().body(new CommonResponseDto<>(
+				HttpStatus.CREATED.value(), "회원가입이 완료되었습니다.", userResponseDto)));
+	}
+
+	@PostMapping("/login/async")
+	public CompletableFuture<ResponseEntity<CommonResponseDto<String>>> loginAsync(
+		@RequestBody @Valid LoginRequestDto loginRequestDto
+	) {
+		return userService.loginAsync(loginRequestDto)
+			.thenApply(tokens -> ResponseEntity.ok().headers(tokens.toHeaders()).body(new CommonResponseDto<>(
+				HttpStatus.OK.value(), "로그인이 완료되었습니다.", tokens.getAccessToken())));
+	}
 }
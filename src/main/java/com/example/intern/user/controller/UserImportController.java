@@ -0,0 +1,51 @@
+package com.example.intern.user.controller;
+
+import com.example.intern.global.dto.CommonResponseDto;
+import com.example.intern.user.dto.UserImportResponseDto;
+import com.example.intern.user.service.UserImportReader.Format;
+import com.example.intern.user.service.UserImportService;
+import java.io.IOException;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class UserImportController {
+
+	public static final String IMPORT_KEY_HEADER = "X-Import-Key";
+
+	private final UserImportService userImportService;
+
+	@PostMapping(value = "/users/import", consumes = "application/x-ndjson")
+	public ResponseEntity<CommonResponseDto<UserImportResponseDto>> importNdjson(
+		@RequestHeader(value = IMPORT_KEY_HEADER, required = false) String importKey,
+		@RequestParam(defaultValue = "false") boolean passwordEncoded,
+		InputStream body
+	) throws IOException {
+		return importUsers(importKey, Format.NDJSON, body, passwordEncoded);
+	}
+
+	@PostMapping(value = "/users/import", consumes = "text/csv")
+	public ResponseEntity<CommonResponseDto<UserImportResponseDto>> importCsv(
+		@RequestHeader(value = IMPORT_KEY_HEADER, required = false) String importKey,
+		@RequestParam(defaultValue = "false") boolean passwordEncoded,
+		InputStream body
+	) throws IOException {
+		return importUsers(importKey, Format.CSV, body, passwordEncoded);
+	}
+
+	private ResponseEntity<CommonResponseDto<UserImportResponseDto>> importUsers(String importKey, Format format,
+		InputStream body, boolean passwordEncoded) throws IOException {
+		UserImportResponseDto result = userImportService.importUsers(importKey, format, body, passwordEncoded);
+		return ResponseEntity.ok().body(new CommonResponseDto<>(
+			HttpStatus.OK.value(), "회원 가져오기가 완료되었습니다.", result));
+	}
+}
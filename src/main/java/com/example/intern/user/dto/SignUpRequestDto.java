@@ -1,6 +1,7 @@
 package com.example.intern.user.dto;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -8,7 +9,9 @@ import lombok.Getter;
 @AllArgsConstructor
 public class SignUpRequestDto {
 
+	// '#' 으로 시작하는 키는 사용자 id 키로 예약되어 있다 (User.ID_KEY_PREFIX)
 	@NotBlank(message = "Username is mandatory")
+	@Pattern(regexp = "(?s)(?!#).*", message = "Username must not start with '#'")
 	private String username;
 
 	@NotBlank(message = "Password is mandatory")
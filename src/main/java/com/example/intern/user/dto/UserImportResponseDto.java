@@ -0,0 +1,41 @@
+package com.example.intern.user.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UserImportResponseDto {
+
+	private final long imported;
+	private final long failed;
+	// 실패한 행은 maximum 개까지만 담고, 넘치면 errorsTruncated 를 true 로 둔다
+	private final List<RowError> errors;
+	private final boolean errorsTruncated;
+
+	public enum Reason {
+		// JSON/CSV 로 읽을 수 없는 행
+		MALFORMED_ROW,
+		// username, password, nickname 중 빈 값이 있는 행
+		MISSING_FIELD,
+		// '#' 으로 시작하는 username (사용자 id 키로 예약됨)
+		RESERVED_USERNAME,
+		// passwordEncoded 로 가져올 때 BCrypt 해시가 아닌 비밀번호
+		INVALID_PASSWORD_HASH,
+		// 같은 파일 안에서 username 이 중복된 행
+		DUPLICATE_IN_FILE,
+		// 이미 가입된 username
+		ALREADY_USERNAME,
+		INSERT_FAILED
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class RowError {
+
+		private final long line;
+		private final String username;
+		private final Reason reason;
+	}
+}
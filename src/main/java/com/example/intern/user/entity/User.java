@@ -1,5 +1,6 @@
 package com.example.intern.user.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -7,25 +8,45 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
-@Table(name = "db_users")
+@Table(name = "db_users", indexes = @Index(name = User.USERNAME_CONSTRAINT, columnList = "username", unique = true))
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Entity
+// 쓰기 트랜잭션이 커밋될 때 캐시도 갱신 (커밋 전에는 soft lock 으로 다른 트랜잭션이 DB 를 읽게 함)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.NATURAL_ID_CACHE_REGION)
 public class User {
 
+	public static final String USERNAME_CONSTRAINT = "uk_db_users_username";
+	public static final String CACHE_REGION = "user";
+	public static final String NATURAL_ID_CACHE_REGION = "user-natural-id";
+	// 사용자 id 로 만든 캐시, 폐기 목록, 무효화 이벤트 키의 접두사. 키가 username 과 겹치지 않도록 username 에는 쓸 수 없다
+	public static final String ID_KEY_PREFIX = "#";
+
+	// IDENTITY 는 INSERT 마다 키를 돌려받아야 해서 JDBC 배치가 꺼진다. 시퀀스 한 번에 50개씩 할당 (pooled)
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "db_users_seq")
+	@SequenceGenerator(name = "db_users_seq", sequenceName = "db_users_seq", allocationSize = 50)
 	private Long id;
 
+	// 가입 후 바뀌지 않는 자연 키
+	@NaturalId
 	@Column(name = "username", nullable = false)
 	private String username;
 
@@ -39,4 +60,12 @@ public class User {
 	@Enumerated(EnumType.STRING)
 	private UserRole userRole;
 
+	public void updatePassword(String encodedPassword) {
+		this.password = encodedPassword;
+	}
+
+	// 가입, 가져오기에서 거절하는 username (id 키와 같은 접두사로 시작)
+	public static boolean isReservedUsername(String username) {
+		return username != null && username.startsWith(ID_KEY_PREFIX);
+	}
 }
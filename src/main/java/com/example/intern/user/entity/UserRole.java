@@ -1,19 +1,24 @@
 package com.example.intern.user.entity;
 
+import java.util.List;
 import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 @Getter
 public enum UserRole {
 	USER(Authority.USER);
 
 	private final String authority;
+	// 요청마다 만들지 않도록 role 별로 한 번만 만들어 공유하는 불변 권한 목록
+	private final List<GrantedAuthority> grantedAuthorities;
 
 	UserRole(String authority) {
 		this.authority = authority;
+		this.grantedAuthorities = List.of(new SimpleGrantedAuthority(authority));
 	}
 
 	public static class Authority {
 		public static final String USER = "ROLE_USER";
 	}
 }
-
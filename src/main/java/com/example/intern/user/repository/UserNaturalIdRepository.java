@@ -0,0 +1,12 @@
+package com.example.intern.user.repository;
+
+import com.example.intern.user.entity.User;
+import java.util.Optional;
+
+/**
+ * username(자연 키)으로 조회하는 커스텀 프래그먼트. 파생 쿼리 대신 자연 키 캐시를 거친다.
+ */
+public interface UserNaturalIdRepository {
+
+	Optional<User> findByUsername(String username);
+}
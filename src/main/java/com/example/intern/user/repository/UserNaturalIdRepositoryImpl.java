@@ -0,0 +1,27 @@
+package com.example.intern.user.repository;
+
+import com.example.intern.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.Optional;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * username -> id 는 자연 키 캐시에서, id -> User 는 2차 캐시에서 찾고 둘 다 없을 때만 DB 를 조회한다.
+ * JPQL 파생 쿼리는 2차 캐시를 거치지 않으므로 직접 Session 의 자연 키 로더를 쓴다.
+ */
+public class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	// 트랜잭션 밖에서 호출돼도 Session 을 열고 닫도록 읽기 전용 트랜잭션으로 감싼다
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<User> findByUsername(String username) {
+		return entityManager.unwrap(Session.class)
+			.bySimpleNaturalId(User.class)
+			.loadOptional(username);
+	}
+}
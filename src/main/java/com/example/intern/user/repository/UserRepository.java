@@ -1,11 +1,30 @@
 package com.example.intern.user.repository;
 
 import com.example.intern.user.entity.User;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+// findByUsername 은 UserNaturalIdRepository 에서 자연 키 캐시로 조회한다
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
 
-	Optional<User> findByUsername(String username);
+	boolean existsByUsername(String username);
 
+	// 대량 가져오기에서 한 배치의 username 중 이미 가입된 것을 한 번의 쿼리로 찾는다
+	@Query("select u.username from User u where u.username in :usernames")
+	List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+	// 엔티티를 만들지 않고 id 순서로 username 만 읽는다 (keyset 페이지네이션)
+	@Query("select u.id as id, u.username as username from User u where u.id > :afterId order by u.id")
+	List<UsernameView> findUsernamesAfter(@Param("afterId") long afterId, Pageable pageable);
+
+	interface UsernameView {
+
+		Long getId();
+
+		String getUsername();
+	}
 }
@@ -0,0 +1,39 @@
+package com.example.intern.user.service;
+
+import com.example.intern.global.invalidation.InvalidationBus;
+import com.example.intern.global.invalidation.InvalidationEvent;
+import com.example.intern.jwt.security.UserDetailsCache;
+import com.example.intern.user.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * User 2차 캐시는 노드마다 따로 있으므로 다른 노드에서 바뀐 사용자는 이벤트(id 키)를 받아 이 노드에서 제거한다.
+ * 같은 노드의 쓰기는 READ_WRITE 전략이 커밋 시점에 캐시를 갱신한다.
+ * username -> id 매핑은 바뀌지 않으므로 자연 키 캐시는 그대로 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserEntityCacheEvictor {
+
+	private final EntityManagerFactory entityManagerFactory;
+
+	@Autowired(required = false)
+	public void setInvalidationBus(InvalidationBus invalidationBus) {
+		invalidationBus.subscribe(event -> {
+			if (event.getType() != InvalidationEvent.Type.USER_CHANGED) {
+				return;
+			}
+			Long userId = UserDetailsCache.userIdOf(event.getKey());
+			if (userId != null) {
+				evict(userId);
+			}
+		});
+	}
+
+	public void evict(long userId) {
+		entityManagerFactory.getCache().evict(User.class, userId);
+	}
+}
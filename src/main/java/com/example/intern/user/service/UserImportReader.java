@@ -0,0 +1,183 @@
+package com.example.intern.user.service;
+
+import com.example.intern.global.exception.ErrorCode;
+import com.example.intern.global.exception.GlobalException;
+import com.example.intern.user.dto.UserImportResponseDto.Reason;
+import com.example.intern.user.entity.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+/**
+ * 가져오기 요청 본문을 한 줄씩 읽어 행으로 바꾼다. 전체를 메모리에 올리지 않는다.
+ * <p>
+ * NDJSON: 한 줄에 {"username":..., "password":..., "nickname":...} 객체 하나.
+ * CSV: 첫 줄은 username, password, nickname 열 이름(순서 무관), 값은 큰따옴표로 감쌀 수 있다 (줄바꿈은 불가).
+ * 빈 줄은 건너뛰고, 읽을 수 없는 행은 오류 사유를 담은 행으로 돌려준다.
+ */
+public class UserImportReader {
+
+	public enum Format {
+		NDJSON, CSV
+	}
+
+	private static final String USERNAME = "username";
+	private static final String PASSWORD = "password";
+	private static final String NICKNAME = "nickname";
+
+	private final BufferedReader reader;
+	private final Format format;
+	private final ObjectMapper objectMapper;
+	private long lineNumber;
+	// CSV 열 위치 (username, password, nickname 순)
+	private int[] columns;
+
+	private UserImportReader(InputStream in, Format format, ObjectMapper objectMapper) {
+		this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		this.format = format;
+		this.objectMapper = objectMapper;
+	}
+
+	public static UserImportReader open(InputStream in, Format format, ObjectMapper objectMapper) throws IOException {
+		UserImportReader importReader = new UserImportReader(in, format, objectMapper);
+		if (format == Format.CSV) {
+			importReader.readCsvHeader();
+		}
+		return importReader;
+	}
+
+	// 끝에 도달하면 null
+	public Row next() throws IOException {
+		String line;
+		do {
+			line = reader.readLine();
+			if (line == null) {
+				return null;
+			}
+			lineNumber++;
+		} while (line.isBlank());
+		return format == Format.NDJSON ? parseJson(line) : parseCsv(line);
+	}
+
+	private Row parseJson(String line) {
+		JsonNode node;
+		try {
+			node = objectMapper.readTree(line);
+		} catch (JsonProcessingException e) {
+			return Row.error(lineNumber, null, Reason.MALFORMED_ROW);
+		}
+		if (!node.isObject()) {
+			return Row.error(lineNumber, null, Reason.MALFORMED_ROW);
+		}
+		return row(text(node, USERNAME), text(node, PASSWORD), text(node, NICKNAME));
+	}
+
+	private Row parseCsv(String line) {
+		List<String> values = splitCsv(line);
+		if (values == null) {
+			return Row.error(lineNumber, null, Reason.MALFORMED_ROW);
+		}
+		return row(column(values, columns[0]), column(values, columns[1]), column(values, columns[2]));
+	}
+
+	private Row row(String username, String password, String nickname) {
+		if (!StringUtils.hasText(username) || !StringUtils.hasText(password) || !StringUtils.hasText(nickname)) {
+			return Row.error(lineNumber, username, Reason.MISSING_FIELD);
+		}
+		if (User.isReservedUsername(username)) {
+			return Row.error(lineNumber, username, Reason.RESERVED_USERNAME);
+		}
+		return new Row(lineNumber, username, password, nickname, null);
+	}
+
+	private void readCsvHeader() throws IOException {
+		String line;
+		do {
+			line = reader.readLine();
+			if (line == null) {
+				throw GlobalException.of(ErrorCode.INVALID_IMPORT_FORMAT);
+			}
+			lineNumber++;
+		} while (line.isBlank());
+		List<String> header = splitCsv(line.startsWith("\uFEFF") ? line.substring(1) : line);
+		if (header == null) {
+			throw GlobalException.of(ErrorCode.INVALID_IMPORT_FORMAT);
+		}
+		List<String> names = header.stream().map(name -> name.trim().toLowerCase(Locale.ROOT)).toList();
+		columns = new int[] {names.indexOf(USERNAME), names.indexOf(PASSWORD), names.indexOf(NICKNAME)};
+		for (int column : columns) {
+			if (column < 0) {
+				throw GlobalException.of(ErrorCode.INVALID_IMPORT_FORMAT);
+			}
+		}
+	}
+
+	private static String text(JsonNode node, String field) {
+		JsonNode value = node.get(field);
+		return value != null && value.isTextual() ? value.asText() : null;
+	}
+
+	private static String column(List<String> values, int index) {
+		return index < values.size() ? values.get(index) : null;
+	}
+
+	// RFC 4180 의 한 줄짜리 레코드. 따옴표가 닫히지 않으면 null
+	static List<String> splitCsv(String line) {
+		List<String> values = new ArrayList<>();
+		StringBuilder value = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (quoted) {
+				if (c != '"') {
+					value.append(c);
+				} else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+					value.append('"');
+					i++;
+				} else {
+					quoted = false;
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				values.add(value.toString());
+				value.setLength(0);
+			} else {
+				value.append(c);
+			}
+		}
+		if (quoted) {
+			return null;
+		}
+		values.add(value.toString());
+		return values;
+	}
+
+	@Getter
+	@AllArgsConstructor(access = AccessLevel.PRIVATE)
+	public static class Row {
+
+		private final long line;
+		private final String username;
+		private final String password;
+		private final String nickname;
+		// 정상 행이면 null
+		private final Reason error;
+
+		static Row error(long line, String username, Reason reason) {
+			return new Row(line, username, null, null, reason);
+		}
+	}
+}
@@ -0,0 +1,322 @@
+package com.example.intern.user.service;
+
+import com.example.intern.global.exception.ErrorCode;
+import com.example.intern.global.exception.GlobalException;
+import com.example.intern.global.invalidation.InvalidationBus;
+import com.example.intern.global.invalidation.InvalidationEvent;
+import com.example.intern.global.metrics.AuthMetrics;
+import com.example.intern.global.metrics.AuthMetrics.PasswordOperation;
+import com.example.intern.user.dto.UserImportResponseDto;
+import com.example.intern.user.dto.UserImportResponseDto.Reason;
+import com.example.intern.user.dto.UserImportResponseDto.RowError;
+import com.example.intern.user.entity.User;
+import com.example.intern.user.entity.UserRole;
+import com.example.intern.user.repository.UserRepository;
+import com.example.intern.user.service.UserImportReader.Format;
+import com.example.intern.user.service.UserImportReader.Row;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 대량 회원 가져오기. 본문을 스트리밍으로 읽어 batchSize 행씩 처리한다.
+ * <p>
+ * 배치마다 (1) 파일 안 중복과 이미 가입된 username 을 한 번의 쿼리로 걸러내고 (2) 비밀번호를 전용 풀에서 병렬로
+ * 해싱(또는 BCrypt 해시를 그대로 사용)한 뒤 (3) 시퀀스에서 미리 할당한 id 로 JDBC 배치 INSERT 하고 커밋한다.
+ * 배치 단위로 커밋하므로 중간에 실패해도 앞선 배치는 남고, 응답에 가져온 수와 실패한 행을 알려준다.
+ * <p>
+ * BCrypt 해싱이 행마다 수백 ms 이므로 초당 수만 건은 passwordEncoded(해시 그대로 가져오기)에서만 가능하다.
+ */
+@Slf4j
+@Service
+public class UserImportService implements DisposableBean {
+
+	// DelegatingPasswordEncoder 가 검증할 수 있는 BCrypt 해시 ({bcrypt} 접두사는 선택)
+	private static final Pattern BCRYPT_HASH = Pattern.compile("^(\\{bcrypt})?\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+	private static final String BCRYPT_PREFIX = "{bcrypt}";
+
+	private final UserRepository userRepository;
+	private final EntityManager entityManager;
+	private final TransactionTemplate transactionTemplate;
+	private final PasswordEncoder passwordEncoder;
+	private final UsernameFilter usernameFilter;
+	private final InvalidationBus invalidationBus;
+	private final AuthMetrics authMetrics;
+	private final ObjectMapper objectMapper;
+	private final int batchSize;
+	private final int maxReportedErrors;
+	private final byte[] apiKey;
+	private final ExecutorService hashingExecutor;
+	private final Counter importedRows;
+	private final Counter failedRows;
+
+	public UserImportService(
+		UserRepository userRepository,
+		EntityManager entityManager,
+		PlatformTransactionManager transactionManager,
+		PasswordEncoder passwordEncoder,
+		UsernameFilter usernameFilter,
+		InvalidationBus invalidationBus,
+		AuthMetrics authMetrics,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Value("${user.import.batch-size:500}") int batchSize,
+		@Value("${user.import.hashing-threads:0}") int hashingThreads,
+		@Value("${user.import.max-reported-errors:1000}") int maxReportedErrors,
+		@Value("${user.import.api-key:}") String apiKey
+	) {
+		this.userRepository = userRepository;
+		this.entityManager = entityManager;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.passwordEncoder = passwordEncoder;
+		this.usernameFilter = usernameFilter;
+		this.invalidationBus = invalidationBus;
+		this.authMetrics = authMetrics;
+		this.objectMapper = objectMapper;
+		this.batchSize = Math.max(1, batchSize);
+		this.maxReportedErrors = Math.max(0, maxReportedErrors);
+		this.apiKey = apiKey.getBytes(StandardCharsets.UTF_8);
+		int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+		this.hashingExecutor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("user-import-hashing-"));
+		this.importedRows = Counter.builder("user.import.rows").tag("result", "imported").register(meterRegistry);
+		this.failedRows = Counter.builder("user.import.rows").tag("result", "failed").register(meterRegistry);
+	}
+
+	/**
+	 * @param passwordEncoded true 이면 password 열을 BCrypt 해시로 보고 해싱하지 않는다
+	 */
+	public UserImportResponseDto importUsers(String requestApiKey, Format format, InputStream in,
+		boolean passwordEncoded) throws IOException {
+		verifyApiKey(requestApiKey);
+		long start = System.currentTimeMillis();
+		ImportReport report = new ImportReport(maxReportedErrors);
+		UserImportReader reader = UserImportReader.open(in, format, objectMapper);
+		List<Row> batch = new ArrayList<>(batchSize);
+		Row row;
+		while ((row = reader.next()) != null) {
+			if (row.getError() != null) {
+				report.fail(row, row.getError());
+				continue;
+			}
+			batch.add(row);
+			if (batch.size() == batchSize) {
+				importBatch(batch, passwordEncoded, report);
+				batch.clear();
+			}
+		}
+		if (!batch.isEmpty()) {
+			importBatch(batch, passwordEncoded, report);
+		}
+		log.info("회원 가져오기 완료. imported={}, failed={}, {}ms", report.imported, report.failed,
+			System.currentTimeMillis() - start);
+		return report.toDto();
+	}
+
+	// 키를 설정하지 않으면 가져오기를 막는다
+	private void verifyApiKey(String requestApiKey) {
+		if (apiKey.length == 0 || requestApiKey == null
+			|| !MessageDigest.isEqual(apiKey, requestApiKey.getBytes(StandardCharsets.UTF_8))) {
+			throw GlobalException.of(ErrorCode.ACCESS_DENIED);
+		}
+	}
+
+	private void importBatch(List<Row> batch, boolean passwordEncoded, ImportReport report) {
+		List<Row> rows = rejectDuplicates(batch, report);
+		List<String> encodedPasswords = passwordEncoded ? acceptEncoded(rows, report) : encodeAll(rows);
+		List<User> users = new ArrayList<>(rows.size());
+		List<Row> insertedRows = new ArrayList<>(rows.size());
+		for (int i = 0; i < rows.size(); i++) {
+			if (encodedPasswords.get(i) != null) {
+				insertedRows.add(rows.get(i));
+				users.add(createUser(rows.get(i), encodedPasswords.get(i)));
+			}
+		}
+		try {
+			insertAll(users);
+		} catch (DataIntegrityViolationException | PersistenceException e) {
+			// 확인 뒤에 다른 요청이 같은 username 으로 가입한 경우. 이 배치만 한 건씩 다시 넣는다
+			log.debug("배치 INSERT 실패, 한 건씩 다시 시도합니다.", e);
+			insertOneByOne(insertedRows, users, report);
+			return;
+		}
+		for (User user : users) {
+			onInserted(user, report);
+		}
+	}
+
+	// 파일 안 중복은 가져오기 전체에서 본 username 으로, 기존 회원과의 중복은 IN 쿼리 한 번으로 거른다
+	private List<Row> rejectDuplicates(List<Row> batch, ImportReport report) {
+		List<Row> unique = new ArrayList<>(batch.size());
+		List<String> candidates = new ArrayList<>();
+		for (Row row : batch) {
+			if (!report.seenUsernames.add(row.getUsername())) {
+				report.fail(row, Reason.DUPLICATE_IN_FILE);
+				continue;
+			}
+			unique.add(row);
+			// 필터가 없다고 답한 username 은 DB 에서 확인하지 않는다
+			if (!usernameFilter.definitelyAbsent(row.getUsername())) {
+				candidates.add(row.getUsername());
+			}
+		}
+		if (candidates.isEmpty()) {
+			return unique;
+		}
+		Set<String> existing = new HashSet<>(userRepository.findExistingUsernames(candidates));
+		if (existing.isEmpty()) {
+			return unique;
+		}
+		List<Row> fresh = new ArrayList<>(unique.size());
+		for (Row row : unique) {
+			if (existing.contains(row.getUsername())) {
+				report.fail(row, Reason.ALREADY_USERNAME);
+			} else {
+				fresh.add(row);
+			}
+		}
+		return fresh;
+	}
+
+	// 형식이 맞지 않는 해시는 null 로 두고 실패로 기록한다
+	private List<String> acceptEncoded(List<Row> rows, ImportReport report) {
+		List<String> encodedPasswords = new ArrayList<>(rows.size());
+		for (Row row : rows) {
+			String password = row.getPassword();
+			if (BCRYPT_HASH.matcher(password).matches()) {
+				// 접두사를 붙여 두면 첫 로그인에서 불필요하게 다시 해싱하지 않는다
+				encodedPasswords.add(password.startsWith(BCRYPT_PREFIX) ? password : BCRYPT_PREFIX + password);
+			} else {
+				encodedPasswords.add(null);
+				report.fail(row, Reason.INVALID_PASSWORD_HASH);
+			}
+		}
+		return encodedPasswords;
+	}
+
+	private List<String> encodeAll(List<Row> rows) {
+		List<CompletableFuture<String>> futures = new ArrayList<>(rows.size());
+		for (Row row : rows) {
+			futures.add(CompletableFuture.supplyAsync(() -> encodePassword(row.getPassword()), hashingExecutor));
+		}
+		List<String> encodedPasswords = new ArrayList<>(rows.size());
+		for (CompletableFuture<String> future : futures) {
+			encodedPasswords.add(future.join());
+		}
+		return encodedPasswords;
+	}
+
+	private String encodePassword(String rawPassword) {
+		long start = System.nanoTime();
+		String encodedPassword = passwordEncoder.encode(rawPassword);
+		authMetrics.recordPasswordHash(PasswordOperation.ENCODE, start);
+		return encodedPassword;
+	}
+
+	/**
+	 * 한 트랜잭션에서 persist 후 한 번에 flush 한다. id 는 시퀀스(pooled)에서 미리 받으므로 INSERT 가 JDBC 배치로 묶인다.
+	 * 가져온 사용자를 2차 캐시에 넣지 않아 기존 캐시 항목을 밀어내지 않는다.
+	 */
+	private void insertAll(List<User> users) {
+		if (users.isEmpty()) {
+			return;
+		}
+		transactionTemplate.executeWithoutResult(status -> {
+			Session session = entityManager.unwrap(Session.class);
+			session.setJdbcBatchSize(batchSize);
+			session.setCacheMode(CacheMode.IGNORE);
+			for (User user : users) {
+				entityManager.persist(user);
+			}
+			entityManager.flush();
+			entityManager.clear();
+		});
+	}
+
+	// 실패한 트랜잭션에서 id 를 받은 엔티티는 다시 persist 할 수 없으므로 행에서 새로 만든다
+	private void insertOneByOne(List<Row> rows, List<User> failedUsers, ImportReport report) {
+		for (int i = 0; i < rows.size(); i++) {
+			Row row = rows.get(i);
+			User user = createUser(row, failedUsers.get(i).getPassword());
+			try {
+				insertAll(List.of(user));
+				onInserted(user, report);
+			} catch (DataIntegrityViolationException | PersistenceException e) {
+				report.fail(row, userRepository.existsByUsername(row.getUsername())
+					? Reason.ALREADY_USERNAME : Reason.INSERT_FAILED);
+			}
+		}
+	}
+
+	// 다른 노드의 username 필터와 UserDetails 캐시에도 알린다
+	private void onInserted(User user, ImportReport report) {
+		usernameFilter.add(user.getUsername());
+		invalidationBus.publish(InvalidationEvent.userChanged(user.getUsername()));
+		report.imported++;
+		importedRows.increment();
+	}
+
+	private User createUser(Row row, String encodedPassword) {
+		return User.builder()
+			.username(row.getUsername())
+			.password(encodedPassword)
+			.nickname(row.getNickname())
+			.userRole(UserRole.USER)
+			.build();
+	}
+
+	@Override
+	public void destroy() {
+		hashingExecutor.shutdown();
+	}
+
+	private class ImportReport {
+
+		private final int maxErrors;
+		private final List<RowError> errors = new ArrayList<>();
+		// 배치를 넘어선 파일 안 중복도 DUPLICATE_IN_FILE 로 알리기 위해 가져오기 동안 유지
+		private final Set<String> seenUsernames = new HashSet<>();
+		private long imported;
+		private long failed;
+
+		ImportReport(int maxErrors) {
+			this.maxErrors = maxErrors;
+		}
+
+		void fail(Row row, Reason reason) {
+			failed++;
+			failedRows.increment();
+			if (errors.size() < maxErrors) {
+				errors.add(new RowError(row.getLine(), row.getUsername(), reason));
+			}
+		}
+
+		UserImportResponseDto toDto() {
+			return new UserImportResponseDto(imported, failed, errors, failed > errors.size());
+		}
+	}
+}
@@ -1,13 +1,26 @@
 package com.example.intern.user.service;
 
+import com.example.intern.jwt.IssuedTokens;
 import com.example.intern.user.dto.LoginRequestDto;
 import com.example.intern.user.dto.SignUpRequestDto;
 import com.example.intern.user.dto.UserResponseDto;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.CompletableFuture;
 
 public interface UserService {
 
 	UserResponseDto signUp(SignUpRequestDto signUpRequestDto);
 
 	String login(LoginRequestDto loginRequestDto, HttpServletResponse response);
+
+	CompletableFuture<UserResponseDto> signUpAsync(SignUpRequestDto signUpRequestDto);
+
+	CompletableFuture<IssuedTokens> loginAsync(LoginRequestDto loginRequestDto);
+
+	boolean isUsernameAvailable(String username);
+
+	void logout(HttpServletRequest request, HttpServletResponse response);
+
+	void logoutAll(String username, HttpServletResponse response);
 }
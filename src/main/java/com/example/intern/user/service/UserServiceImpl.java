@@ -2,17 +2,33 @@ package com.example.intern.user.service;
 
 import com.example.intern.global.exception.ErrorCode;
 import com.example.intern.global.exception.GlobalException;
+import com.example.intern.global.executor.PasswordHashingExecutor;
+import com.example.intern.global.invalidation.InvalidationBus;
+import com.example.intern.global.invalidation.InvalidationEvent;
+import com.example.intern.global.metrics.AuthMetrics;
+import com.example.intern.global.metrics.AuthMetrics.PasswordOperation;
+import com.example.intern.global.metrics.ServerTiming;
+import com.example.intern.global.metrics.ServerTiming.Phase;
+import com.example.intern.jwt.IssuedTokens;
 import com.example.intern.jwt.JwtUtil;
+import com.example.intern.jwt.security.UserDetailsCache;
 import com.example.intern.user.dto.LoginRequestDto;
 import com.example.intern.user.dto.SignUpRequestDto;
 import com.example.intern.user.dto.UserResponseDto;
 import com.example.intern.user.entity.User;
 import com.example.intern.user.entity.UserRole;
 import com.example.intern.user.repository.UserRepository;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.util.WebUtils;
 
 @Service
 @RequiredArgsConstructor
@@ -21,14 +37,16 @@ public class UserServiceImpl implements UserService {
 	private final UserRepository userRepository;
 	private final PasswordEncoder passwordEncoder;
 	private final JwtUtil jwtUtil;
+	private final UserDetailsCache userDetailsCache;
+	private final PasswordHashingExecutor passwordHashingExecutor;
+	private final AuthMetrics authMetrics;
+	private final InvalidationBus invalidationBus;
+	private final UsernameFilter usernameFilter;
 
 	@Override
 	public UserResponseDto signUp(SignUpRequestDto signUpRequestDto) {
-		checkUsername(signUpRequestDto);
-		User user = createUser(signUpRequestDto);
-		userRepository.save(user);
-
-		return new UserResponseDto(user);
+		rejectProbableDuplicate(signUpRequestDto.getUsername());
+		return registerUser(signUpRequestDto, encodePassword(signUpRequestDto.getPassword()));
 	}
 
 	@Override
@@ -37,32 +55,174 @@ public class UserServiceImpl implements UserService {
 		return jwtUtil.issueTokens(user, response);
 	}
 
-	private void checkUsername(SignUpRequestDto signUpRequestDto) {
-		if (userRepository.findByUsername(signUpRequestDto.getUsername()).isPresent()) {
-			throw new GlobalException(ErrorCode.ALREADY_USERNAME);
+	// 조회는 호출 스레드에서, BCrypt 연산만 전용 풀에서 실행하고 INSERT 는 해싱이 끝난 뒤 해싱 스레드 밖에서 실행
+	@Override
+	public CompletableFuture<UserResponseDto> signUpAsync(SignUpRequestDto signUpRequestDto) {
+		rejectProbableDuplicate(signUpRequestDto.getUsername());
+		return passwordHashingExecutor.submit(() -> encodePassword(signUpRequestDto.getPassword()),
+			encodedPassword -> registerUser(signUpRequestDto, encodedPassword));
+	}
+
+	// 사용자 조회는 호출 스레드에서, 비밀번호 비교(필요하면 재해싱)만 전용 풀에서 실행
+	@Override
+	public CompletableFuture<IssuedTokens> loginAsync(LoginRequestDto loginRequestDto) {
+		User user = findLoginUser(loginRequestDto.getUsername());
+		String rawPassword = loginRequestDto.getPassword();
+		return passwordHashingExecutor.submit(() -> verifyPassword(user, rawPassword), upgradedPassword -> {
+			updatePassword(user, upgradedPassword);
+			return jwtUtil.createTokens(user);
+		});
+	}
+
+	// 필터가 없다고 답하면 DB 를 조회하지 않는다
+	@Override
+	public boolean isUsernameAvailable(String username) {
+		return usernameFilter.definitelyAbsent(username) || !userRepository.existsByUsername(username);
+	}
+
+	// 요청에 담긴 액세스 토큰과 리프레시 토큰을 폐기
+	@Override
+	public void logout(HttpServletRequest request, HttpServletResponse response) {
+		String accessToken = jwtUtil.getTokenFromHeader(JwtUtil.AUTHORIZATION_HEADER, request);
+		if (accessToken != null) {
+			jwtUtil.revokeToken(accessToken);
+		}
+		// 만료된 액세스 토큰으로 요청했다면 필터가 이미 새 토큰을 발급해 응답 헤더에 넣었으므로 그것도 폐기
+		String refreshedAccessToken = jwtUtil.getIssuedAccessToken(response);
+		if (refreshedAccessToken != null) {
+			jwtUtil.revokeToken(refreshedAccessToken);
+		}
+		Cookie refreshCookie = WebUtils.getCookie(request, JwtUtil.REFRESH_HEADER);
+		if (refreshCookie != null) {
+			jwtUtil.revokeToken(refreshCookie.getValue());
+		}
+		jwtUtil.clearAuthToken(response);
+	}
+
+	// 다른 기기를 포함해 이 사용자에게 발급된 모든 토큰을 폐기
+	@Override
+	public void logoutAll(String username, HttpServletResponse response) {
+		// 압축 토큰은 uid 로 폐기해야 하므로 사용자 id 를 함께 찾는다
+		userRepository.findByUsername(username)
+			.ifPresentOrElse(jwtUtil::revokeAllTokens, () -> jwtUtil.revokeAllTokens(username));
+		jwtUtil.clearAuthToken(response);
+	}
+
+	// 필터가 있을 수도 있다고 답한 username 만 BCrypt 해싱 전에 확인한다. 없다고 답하면 바로 INSERT 로 진행
+	private void rejectProbableDuplicate(String username) {
+		if (User.isReservedUsername(username)) {
+			throw GlobalException.of(ErrorCode.RESERVED_USERNAME);
+		}
+		if (usernameFilter.probablyTaken(username) && userRepository.existsByUsername(username)) {
+			throw GlobalException.of(ErrorCode.ALREADY_USERNAME);
+		}
+	}
+
+	// 중복 확인용 SELECT 없이 바로 INSERT 하고, username 유니크 인덱스 위반만 중복 아이디로 처리 (다른 제약 위반은 그대로 던짐)
+	private void insertUser(User user) {
+		try {
+			userRepository.saveAndFlush(user);
+		} catch (DataIntegrityViolationException e) {
+			if (isUsernameViolation(e, user.getUsername())) {
+				throw GlobalException.of(ErrorCode.ALREADY_USERNAME);
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 위반한 제약 이름이 uk_db_users_username 이면 중복 아이디다.
+	 * 자연 키(@NaturalId)에 Hibernate 가 자동으로 만든 유니크 키가 대신 위반될 수도 있으므로,
+	 * 이름이 다른 제약 위반은 같은 username 이 실제로 있는지 확인한다 (없으면 NOT NULL, 길이 등 다른 위반).
+	 */
+	private boolean isUsernameViolation(DataIntegrityViolationException e, String username) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ConstraintViolationException violation) {
+				String constraintName = violation.getConstraintName();
+				if (constraintName != null && constraintName.toLowerCase(Locale.ROOT).contains(User.USERNAME_CONSTRAINT)) {
+					return true;
+				}
+				return userRepository.existsByUsername(username);
+			}
 		}
+		return false;
+	}
+
+	private UserResponseDto registerUser(SignUpRequestDto signUpRequestDto, String encodedPassword) {
+		User user = createUser(signUpRequestDto, encodedPassword);
+		insertUser(user);
+		usernameFilter.add(user.getUsername());
+		invalidateUser(user);
+
+		return new UserResponseDto(user);
 	}
 
-	private User createUser(SignUpRequestDto signUpRequestDto) {
+	private User createUser(SignUpRequestDto signUpRequestDto, String encodedPassword) {
 		return User.builder()
 			.username(signUpRequestDto.getUsername())
-			.password(passwordEncoder.encode(signUpRequestDto.getPassword()))
+			.password(encodedPassword)
 			.nickname(signUpRequestDto.getNickname())
 			.userRole(UserRole.USER)
 			.build();
 	}
 
 	private User validateLoginRequest(LoginRequestDto loginRequestDto) {
-		User user = userRepository.findByUsername(loginRequestDto.getUsername())
-			.orElseThrow(() -> new GlobalException(ErrorCode.NOT_FOUND_USERNAME));
-		validateUserPassword(loginRequestDto.getPassword(), user.getPassword());
+		User user = findLoginUser(loginRequestDto.getUsername());
+		updatePassword(user, verifyPassword(user, loginRequestDto.getPassword()));
 		return user;
 	}
 
+	private User findLoginUser(String username) {
+		if (usernameFilter.definitelyAbsent(username)) {
+			throw GlobalException.of(ErrorCode.NOT_FOUND_USERNAME);
+		}
+		return userRepository.findByUsername(username)
+			.orElseThrow(() -> GlobalException.of(ErrorCode.NOT_FOUND_USERNAME));
+	}
+
+	// 비밀번호를 비교하고, 이전 cost 또는 접두사 없는 형식으로 저장된 해시면 현재 설정으로 다시 해싱한 값을 반환 (아니면 null)
+	private String verifyPassword(User user, String rawPassword) {
+		validateUserPassword(rawPassword, user.getPassword());
+		return passwordEncoder.upgradeEncoding(user.getPassword()) ? encodePassword(rawPassword) : null;
+	}
+
+	private void updatePassword(User user, String upgradedPassword) {
+		if (upgradedPassword != null) {
+			user.updatePassword(upgradedPassword);
+			userRepository.save(user);
+			invalidateUser(user);
+		}
+	}
+
+	// 이 노드의 캐시는 바로 지우고 다른 노드에는 이벤트로 알린다
+	private void invalidateUser(User user) {
+		invalidateUserKey(user.getUsername());
+		if (user.getId() != null) {
+			invalidateUserKey(UserDetailsCache.idKey(user.getId()));
+		}
+	}
+
+	private void invalidateUserKey(String key) {
+		userDetailsCache.invalidate(key);
+		invalidationBus.publish(InvalidationEvent.userChanged(key));
+	}
+
 	private void validateUserPassword(String rawPassword, String encodedPassword) {
-		if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
-			throw new GlobalException(ErrorCode.INVALID_PASSWORD);
+		long start = System.nanoTime();
+		boolean matches = passwordEncoder.matches(rawPassword, encodedPassword);
+		authMetrics.recordPasswordHash(PasswordOperation.MATCHES, start);
+		ServerTiming.addToCurrent(Phase.PASSWORD, start);
+		if (!matches) {
+			throw GlobalException.of(ErrorCode.INVALID_PASSWORD);
 		}
 	}
+
+	private String encodePassword(String rawPassword) {
+		long start = System.nanoTime();
+		String encodedPassword = passwordEncoder.encode(rawPassword);
+		authMetrics.recordPasswordHash(PasswordOperation.ENCODE, start);
+		ServerTiming.addToCurrent(Phase.PASSWORD, start);
+		return encodedPassword;
+	}
 }
 
@@ -0,0 +1,139 @@
+package com.example.intern.user.service;
+
+import com.example.intern.global.invalidation.InvalidationBus;
+import com.example.intern.global.invalidation.InvalidationEvent;
+import com.example.intern.global.util.BloomFilter;
+import com.example.intern.user.entity.User;
+import com.example.intern.user.repository.UserRepository;
+import com.example.intern.user.repository.UserRepository.UsernameView;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가입된 username 의 Bloom 필터. 없다고 답한 username 은 DB 를 조회하지 않고 바로 거절한다.
+ * <p>
+ * 시작 직후 백그라운드에서 DB 의 username 으로 채우고, 이후 회원가입(다른 노드 포함)마다 추가한다.
+ * 채우기 전이나 꺼져 있으면 항상 "있을 수도 있음" 으로 답하므로 기존처럼 DB 를 조회한다.
+ * 사용자 삭제나 DB 직접 변경은 주기적으로 다시 만들어 반영한다.
+ * <p>
+ * 다른 노드의 가입은 무효화 버스로만 알 수 있는데, 기본 버스(in-process)는 JVM 밖으로 나가지 않고 multicast 는 유실될 수 있다.
+ * 그래서 기본값(authoritative=false)에서는 "없음" 을 확정하지 않고 DB 로 확인하게 하며, 필터는 중복 가입 확인을 줄이는 데만 쓴다.
+ * 단일 노드이거나 유실 없는 버스를 쓸 때만 authoritative 를 켜서 없는 username 의 조회를 생략한다.
+ */
+@Slf4j
+@Component
+public class UsernameFilter {
+
+	private static final long SEED = 0x27D4EB2F165667C5L;
+	private static final int PAGE_SIZE = 1000;
+
+	private final boolean enabled;
+	// true 이면 필터에 없는 username 을 DB 확인 없이 없다고 단정한다
+	private final boolean authoritative;
+	private final int expectedInsertions;
+	private final double falsePositiveRate;
+	private UserRepository userRepository;
+
+	// 아직 채우지 않았으면 null
+	private volatile BloomFilter filter;
+	// 다시 만드는 동안 들어온 username 도 새 필터에 담기 위해 보관
+	private volatile BloomFilter rebuilding;
+
+	public UsernameFilter(
+		@Value("${user.username-filter.enabled:true}") boolean enabled,
+		@Value("${user.username-filter.authoritative:false}") boolean authoritative,
+		@Value("${user.username-filter.expected-insertions:1000000}") int expectedInsertions,
+		@Value("${user.username-filter.false-positive-rate:0.01}") double falsePositiveRate
+	) {
+		this.enabled = enabled;
+		this.authoritative = authoritative;
+		this.expectedInsertions = Math.max(1024, expectedInsertions);
+		this.falsePositiveRate = falsePositiveRate > 0 && falsePositiveRate < 1 ? falsePositiveRate : 0.01;
+	}
+
+	public static UsernameFilter disabled() {
+		return new UsernameFilter(false, false, 0, 0);
+	}
+
+	@Autowired
+	public void setUserRepository(UserRepository userRepository) {
+		this.userRepository = userRepository;
+	}
+
+	// 다른 노드에서 가입한 username 도 추가 (id 키 이벤트는 제외)
+	@Autowired(required = false)
+	public void setInvalidationBus(InvalidationBus invalidationBus) {
+		invalidationBus.subscribe(event -> {
+			if (event.getType() == InvalidationEvent.Type.USER_CHANGED && !User.isReservedUsername(event.getKey())) {
+				add(event.getKey());
+			}
+		});
+	}
+
+	public boolean isActive() {
+		return filter != null;
+	}
+
+	// true 이면 가입된 username 이 아님이 확실하다. authoritative 가 아니면 항상 false (DB 로 확인)
+	public boolean definitelyAbsent(String username) {
+		BloomFilter current = filter;
+		return authoritative && current != null && !current.mightContain(username, SEED);
+	}
+
+	// 필터가 채워져 있고 "있을 수도 있음" 으로 답한 경우에만 true
+	public boolean probablyTaken(String username) {
+		BloomFilter current = filter;
+		return current != null && current.mightContain(username, SEED);
+	}
+
+	/**
+	 * 다시 만드는 중인 필터에 먼저 넣고 그 다음 현재 필터를 읽는다.
+	 * 그 사이 rebuild 가 새 필터를 게시하고 rebuilding 을 비웠다면 두 번째 읽기가 새 필터를 보므로 빠지지 않는다.
+	 * rebuilding 을 읽을 때 아직 시작 전이던 rebuild 는 이미 커밋된 이 username 을 DB 에서 읽는다.
+	 */
+	public void add(String username) {
+		BloomFilter next = rebuilding;
+		if (next != null) {
+			next.put(username, SEED);
+		}
+		BloomFilter current = filter;
+		if (current != null) {
+			current.put(username, SEED);
+		}
+	}
+
+	// 시작 직후 한 번, 이후 주기적으로 DB 에서 다시 만든다
+	@Scheduled(initialDelay = 0, fixedDelayString = "${user.username-filter.rebuild-interval-millis:3600000}")
+	public void rebuild() {
+		if (!enabled) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		try {
+			long count = userRepository.count();
+			BloomFilter next = new BloomFilter((int) Math.min(Integer.MAX_VALUE, Math.max(expectedInsertions, count * 2)),
+				falsePositiveRate);
+			rebuilding = next;
+			long afterId = 0;
+			List<UsernameView> page;
+			do {
+				page = userRepository.findUsernamesAfter(afterId, PageRequest.ofSize(PAGE_SIZE));
+				for (UsernameView user : page) {
+					next.put(user.getUsername(), SEED);
+					afterId = user.getId();
+				}
+			} while (page.size() == PAGE_SIZE);
+			filter = next;
+			log.info("username 필터를 만들었습니다. users={}, {}ms", count, System.currentTimeMillis() - start);
+		} catch (RuntimeException e) {
+			log.warn("username 필터를 만들지 못해 기존 필터를 유지합니다.", e);
+		} finally {
+			rebuilding = null;
+		}
+	}
+}
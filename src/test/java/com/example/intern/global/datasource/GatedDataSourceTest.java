@@ -0,0 +1,62 @@
+package com.example.intern.global.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class GatedDataSourceTest {
+
+	private DataSource target;
+	private GatedDataSource gated;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		target = mock(DataSource.class);
+		given(target.getConnection()).willAnswer(invocation -> mock(Connection.class));
+		gated = new GatedDataSource(target, 2, 50);
+	}
+
+	@Test
+	@DisplayName("한도만큼 빌려 간 상태에서는 풀을 건드리지 않고 제한 시간 후 실패")
+	void getConnection_OverLimit_FailsWithoutTouchingPool() throws Exception {
+		// given
+		gated.getConnection();
+		gated.getConnection();
+
+		// when & then
+		assertThrows(SQLTransientConnectionException.class, () -> gated.getConnection());
+		verify(target, times(2)).getConnection();
+	}
+
+	@Test
+	@DisplayName("커넥션을 닫으면 허가를 한 번만 돌려줌")
+	void close_ReleasesPermitOnce() throws Exception {
+		// given
+		Connection connection = gated.getConnection();
+
+		// when
+		connection.close();
+		connection.close();
+
+		// then
+		assertEquals(2, gated.getAvailablePermits());
+	}
+
+	@Test
+	@DisplayName("풀에서 커넥션을 얻지 못하면 허가를 바로 돌려줌")
+	void getConnection_PoolFailure_ReleasesPermit() throws Exception {
+		// given
+		given(target.getConnection()).willThrow(new SQLTransientConnectionException("pool timeout"));
+
+		// when & then
+		assertThrows(SQLTransientConnectionException.class, () -> gated.getConnection());
+		assertEquals(2, gated.getAvailablePermits());
+	}
+}
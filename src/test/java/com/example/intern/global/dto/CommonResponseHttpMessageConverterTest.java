@@ -0,0 +1,51 @@
+package com.example.intern.global.dto;
+
+import com.example.intern.user.dto.UserResponseDto;
+import com.example.intern.user.entity.User;
+import com.example.intern.user.entity.UserRole;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommonResponseHttpMessageConverterTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final CommonResponseHttpMessageConverter converter = new CommonResponseHttpMessageConverter(objectMapper);
+
+	@Test
+	@DisplayName("회원가입 응답은 Jackson 직렬화 결과와 같은 바이트")
+	void write_UserResponse_MatchesJackson() throws Exception {
+		// given
+		User user = User.builder()
+			.id(1L)
+			.username("user\"name")
+			.nickname("닉네임\n")
+			.userRole(UserRole.USER)
+			.build();
+
+		// when & then
+		assertSameAsJackson(new CommonResponseDto<>(201, "회원가입이 완료되었습니다.", new UserResponseDto(user)));
+	}
+
+	@Test
+	@DisplayName("문자열, 불리언, null, 그 밖의 data 도 Jackson 과 같게 씀")
+	void write_OtherPayloads_MatchJackson() throws Exception {
+		// when & then
+		assertSameAsJackson(new CommonResponseDto<>(200, "로그인이 완료되었습니다.", "eyJhbGciOiJIUzI1NiJ9.e30.sig"));
+		assertSameAsJackson(new CommonResponseDto<>(200, "사용 가능한 아이디입니다.", true));
+		assertSameAsJackson(new CommonResponseDto<>(200, "로그아웃이 완료되었습니다.", null));
+		assertSameAsJackson(new CommonResponseDto<>(200, null, List.of(1, 2)));
+	}
+
+	private void assertSameAsJackson(CommonResponseDto<?> response) throws Exception {
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+		converter.write(response, MediaType.APPLICATION_JSON, outputMessage);
+		assertEquals(objectMapper.writeValueAsString(response), outputMessage.getBodyAsString(StandardCharsets.UTF_8));
+	}
+}
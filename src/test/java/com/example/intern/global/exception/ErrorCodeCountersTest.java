@@ -0,0 +1,26 @@
+package com.example.intern.global.exception;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorCodeCountersTest {
+
+	@Test
+	@DisplayName("GlobalException 발생 시 주입받은 레지스트리의 카운터가 증가함")
+	void globalException_CountedOnInjectedRegistry() {
+		// given
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		new ErrorCodeCounters(registry);
+
+		// when
+		GlobalException.of(ErrorCode.NOT_FOUND_USERNAME);
+		GlobalException.of(ErrorCode.NOT_FOUND_USERNAME);
+
+		// then
+		assertEquals(2.0, registry.get("app.errors").tag("code", "not_found_username").tag("status", "404").counter().count());
+		assertEquals(ErrorCode.values().length, registry.find("app.errors").counters().size());
+	}
+}
@@ -0,0 +1,52 @@
+package com.example.intern.global.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlobalExceptionHandlerTest {
+
+	private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+	private final ErrorResponseHttpMessageConverter converter = new ErrorResponseHttpMessageConverter();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	@DisplayName("미리 직렬화한 에러 본문은 ExceptionResponseDto 직렬화 결과와 같음")
+	void handleGlobalException_MatchesDtoSerialization() throws Exception {
+		// given
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/login\"\\");
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+		// when
+		ResponseEntity<ErrorResponseBody> response = handler.handleGlobalException(request, GlobalException.of(ErrorCode.NOT_FOUND_USERNAME));
+		converter.write(response.getBody(), MediaType.APPLICATION_JSON, outputMessage);
+
+		// then
+		String expected = objectMapper.writeValueAsString(new ExceptionResponseDto(
+			ErrorCode.NOT_FOUND_USERNAME.getMsg(), "/api/login\"\\"));
+		assertEquals(404, response.getStatusCode().value());
+		assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+		assertEquals(expected, outputMessage.getBodyAsString(StandardCharsets.UTF_8));
+		assertEquals(expected, objectMapper.writeValueAsString(response.getBody()));
+	}
+
+	@Test
+	@DisplayName("ErrorCode 별 예외는 스택 트레이스 없이 같은 인스턴스를 재사용")
+	void of_ReturnsSharedStacklessInstance() {
+		// when
+		GlobalException first = GlobalException.of(ErrorCode.ALREADY_USERNAME);
+		GlobalException second = GlobalException.of(ErrorCode.ALREADY_USERNAME);
+
+		// then
+		assertSame(first, second);
+		assertEquals(0, first.getStackTrace().length);
+		assertEquals(ErrorCode.ALREADY_USERNAME.getMsg(), first.getMessage());
+	}
+}
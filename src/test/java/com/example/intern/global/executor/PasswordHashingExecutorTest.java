@@ -0,0 +1,54 @@
+package com.example.intern.global.executor;
+
+import com.example.intern.global.exception.ErrorCode;
+import com.example.intern.global.exception.GlobalException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingExecutorTest {
+
+	private final PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 1);
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		executor.destroy();
+	}
+
+	@Test
+	@DisplayName("풀과 대기열이 가득 차면 SERVER_BUSY 예외 발생")
+	void submit_ShouldRejectWhenQueueIsFull() {
+		// given
+		executor.submit(this::awaitRelease);
+		executor.submit(this::awaitRelease);
+
+		// when & then
+		GlobalException exception = assertThrows(GlobalException.class, () -> executor.submit(this::awaitRelease));
+		assertEquals(ErrorCode.SERVER_BUSY, exception.getErrorCode());
+	}
+
+	@Test
+	@DisplayName("여유가 있으면 작업 결과를 비동기로 반환")
+	void submit_ShouldCompleteWithResult() {
+		// when
+		CompletableFuture<String> result = executor.submit(() -> "hashed");
+
+		// then
+		assertEquals("hashed", result.join());
+	}
+
+	private String awaitRelease() {
+		try {
+			release.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return "done";
+	}
+}
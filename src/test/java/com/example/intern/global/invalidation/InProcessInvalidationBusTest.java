@@ -0,0 +1,81 @@
+package com.example.intern.global.invalidation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InProcessInvalidationBusTest {
+
+	private SimpleMeterRegistry registry;
+	private InProcessInvalidationBus bus;
+	private List<InvalidationEvent> received;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		// 주기 flush 가 끼어들지 않도록 충분히 긴 배치 주기를 두고 직접 flush
+		bus = new InProcessInvalidationBus(60000, registry);
+		received = new CopyOnWriteArrayList<>();
+		bus.subscribe(received::add);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		bus.destroy();
+	}
+
+	@Test
+	@DisplayName("같은 대상의 이벤트는 한 배치 안에서 하나로 합쳐 전달")
+	void flush_CoalescesSameKey() {
+		// given
+		bus.publish(InvalidationEvent.userTokensRevoked("testuser", 2000));
+		bus.publish(InvalidationEvent.userTokensRevoked("testuser", 1000));
+		bus.publish(InvalidationEvent.userChanged("testuser"));
+		bus.publish(InvalidationEvent.userChanged("otheruser"));
+
+		// when
+		bus.flush();
+
+		// then
+		assertEquals(3, received.size());
+		InvalidationEvent revoked = received.stream()
+			.filter(event -> event.getType() == InvalidationEvent.Type.USER_TOKENS_REVOKED)
+			.findFirst()
+			.orElseThrow();
+		assertEquals(2000, revoked.getValue());
+		assertEquals(1.0, registry.get("invalidation.events").tag("result", "coalesced").counter().count());
+	}
+
+	@Test
+	@DisplayName("전달한 이벤트마다 전파 지연을 기록하고 리스너 예외는 다른 리스너에 영향 없음")
+	void flush_RecordsLagAndIsolatesListenerFailures() {
+		// given
+		bus.subscribe(event -> {
+			throw new IllegalStateException("listener failure");
+		});
+		bus.publish(InvalidationEvent.tokenRevoked("jti-1", System.currentTimeMillis() + 60000));
+
+		// when
+		bus.flush();
+
+		// then
+		assertEquals(1, received.size());
+		assertEquals(1, registry.get("invalidation.propagation.lag").timer().count());
+	}
+
+	@Test
+	@DisplayName("대기 중인 이벤트가 없으면 전송하지 않음")
+	void flush_Empty_DoesNothing() {
+		// when
+		bus.flush();
+
+		// then
+		assertTrue(received.isEmpty());
+	}
+}
@@ -0,0 +1,79 @@
+package com.example.intern.global.invalidation;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MulticastInvalidationBusTest {
+
+	private static final String SENDER = "sender-node";
+	private static final String RECEIVER = "receiver-node";
+
+	@Test
+	@DisplayName("인코딩한 데이터그램을 디코딩하면 같은 이벤트가 복원됨")
+	void encodeDecode_RoundTrip() throws Exception {
+		// given
+		List<InvalidationEvent> batch = List.of(
+			new InvalidationEvent(InvalidationEvent.Type.USER_CHANGED, "testuser", 0, 1000),
+			new InvalidationEvent(InvalidationEvent.Type.TOKEN_REVOKED, "jti-한글", 5000, 2000),
+			new InvalidationEvent(InvalidationEvent.Type.USER_TOKENS_REVOKED, "#42", 3000, 3000));
+
+		// when
+		List<byte[]> datagrams = MulticastInvalidationBus.encode(SENDER, batch);
+
+		// then
+		assertEquals(1, datagrams.size());
+		byte[] datagram = datagrams.get(0);
+		assertEvents(batch, MulticastInvalidationBus.decode(RECEIVER, datagram, 0, datagram.length));
+	}
+
+	@Test
+	@DisplayName("데이터그램 크기를 넘는 배치는 여러 데이터그램으로 나뉘고 순서대로 모두 복원됨")
+	void encodeDecode_SplitsLargeBatch() throws Exception {
+		// given
+		List<InvalidationEvent> batch = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			batch.add(new InvalidationEvent(InvalidationEvent.Type.TOKEN_REVOKED, "token-" + i, i, i * 10L));
+		}
+
+		// when
+		List<byte[]> datagrams = MulticastInvalidationBus.encode(SENDER, batch);
+
+		// then
+		assertTrue(datagrams.size() > 1);
+		List<InvalidationEvent> decoded = new ArrayList<>();
+		for (byte[] datagram : datagrams) {
+			assertTrue(datagram.length <= MulticastInvalidationBus.MAX_DATAGRAM_BYTES);
+			decoded.addAll(MulticastInvalidationBus.decode(RECEIVER, datagram, 0, datagram.length));
+		}
+		assertEvents(batch, decoded);
+	}
+
+	@Test
+	@DisplayName("자기 자신이 보낸 데이터그램은 무시")
+	void decode_OwnDatagram_Ignored() throws Exception {
+		// given
+		List<byte[]> datagrams = MulticastInvalidationBus.encode(SENDER,
+			List.of(InvalidationEvent.userChanged("testuser")));
+		byte[] datagram = datagrams.get(0);
+
+		// when
+		List<InvalidationEvent> decoded = MulticastInvalidationBus.decode(SENDER, datagram, 0, datagram.length);
+
+		// then
+		assertNull(decoded);
+	}
+
+	private static void assertEvents(List<InvalidationEvent> expected, List<InvalidationEvent> actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).getType(), actual.get(i).getType());
+			assertEquals(expected.get(i).getKey(), actual.get(i).getKey());
+			assertEquals(expected.get(i).getValue(), actual.get(i).getValue());
+			assertEquals(expected.get(i).getPublishedAt(), actual.get(i).getPublishedAt());
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package com.example.intern.jwt;
+
+import com.example.intern.user.entity.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.security.Key;
+import java.util.Date;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedSchemaJwtCodecTest {
+
+	private Key key;
+	private HmacSignatureVerifier verifier;
+	private FixedSchemaJwtCodec codec;
+
+	@BeforeEach
+	void setUp() {
+		key = Keys.hmacShaKeyFor("my-secret-key-which-needs-to-be-long-enough".getBytes());
+		verifier = new HmacSignatureVerifier(key);
+		codec = new FixedSchemaJwtCodec(verifier);
+	}
+
+	@Test
+	@DisplayName("직접 만든 토큰을 jjwt 가 그대로 파싱")
+	void encode_IsReadableByJjwt() {
+		// given
+		long now = System.currentTimeMillis() / 1000;
+
+		// when
+		String token = codec.encode("token-id", "테스트\"user\\", now + 600, now * 1000 + 123, UserRole.USER.name());
+		Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+
+		// then
+		assertTrue(token.startsWith(FixedSchemaJwtCodec.HEADER_SEGMENT + "."));
+		assertEquals("token-id", claims.getId());
+		assertEquals("테스트\"user\\", claims.getSubject());
+		assertEquals((now + 600) * 1000, claims.getExpiration().getTime());
+		assertEquals(now * 1000, claims.getIssuedAt().getTime());
+		assertEquals(now * 1000 + 123, claims.get(JwtUtil.ISSUED_AT_MILLIS_KEY, Long.class));
+		assertEquals("USER", claims.get(JwtUtil.AUTHORIZATION_KEY, String.class));
+	}
+
+	@Test
+	@DisplayName("jjwt 로 만든 같은 형태의 토큰을 직접 디코딩")
+	void decode_ReadsJjwtToken() {
+		// given
+		Date now = new Date(System.currentTimeMillis() / 1000 * 1000);
+		String token = Jwts.builder()
+			.setId("token-id")
+			.setSubject("테스트user")
+			.setExpiration(new Date(now.getTime() + 600000))
+			.setIssuedAt(now)
+			.claim(JwtUtil.AUTHORIZATION_KEY, UserRole.USER)
+			.signWith(key, SignatureAlgorithm.HS256)
+			.compact();
+
+		// when
+		Claims claims = codec.decode(token);
+
+		// then
+		assertTrue(verifier.verify(token));
+		assertNotNull(claims);
+		assertEquals("token-id", claims.getId());
+		assertEquals("테스트user", claims.getSubject());
+		assertEquals(now.getTime() + 600000, claims.getExpiration().getTime());
+		assertEquals(now, claims.getIssuedAt());
+		assertEquals("USER", claims.get(JwtUtil.AUTHORIZATION_KEY, String.class));
+	}
+
+	@Test
+	@DisplayName("압축 토큰을 jjwt 와 직접 디코딩 양쪽에서 같은 클레임으로 읽음")
+	void encodeCompact_RoundTrip() {
+		// given
+		long now = System.currentTimeMillis() / 1000;
+
+		// when
+		String token = codec.encodeCompact("AAAAAAAAAAA", 42L, now + 600, now * 1000 + 123, UserRole.USER.ordinal());
+		Claims parsed = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+		Claims decoded = codec.decode(token);
+
+		// then
+		assertNull(parsed.getSubject());
+		assertEquals(42L, parsed.get(JwtUtil.USER_ID_KEY, Long.class));
+		assertEquals(UserRole.USER.ordinal(), parsed.get(JwtUtil.ROLE_ORDINAL_KEY, Integer.class));
+		assertNotNull(decoded);
+		assertEquals("AAAAAAAAAAA", decoded.getId());
+		assertEquals(42L, decoded.get(JwtUtil.USER_ID_KEY, Long.class));
+		assertEquals((now + 600) * 1000, decoded.getExpiration().getTime());
+		assertEquals(now * 1000 + 123, decoded.get(JwtUtil.ISSUED_AT_MILLIS_KEY, Long.class));
+	}
+
+	@Test
+	@DisplayName("모르는 클레임이나 이스케이프가 있는 토큰은 jjwt 로 넘기도록 null")
+	void decode_UnusualToken_ReturnsNull() {
+		// given
+		String extraClaim = Jwts.builder()
+			.setSubject("testuser")
+			.setExpiration(new Date(System.currentTimeMillis() + 600000))
+			.claim("scope", "admin")
+			.signWith(key, SignatureAlgorithm.HS256)
+			.compact();
+		long now = System.currentTimeMillis() / 1000;
+		String escaped = codec.encode("token-id", "quote\"user", now + 600, now * 1000, null);
+
+		// when & then
+		assertNull(codec.decode(extraClaim));
+		assertNull(codec.decode(escaped));
+	}
+}
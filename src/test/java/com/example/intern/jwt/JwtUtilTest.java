@@ -2,11 +2,29 @@ package com.example.intern.jwt;
 
 import com.example.intern.global.exception.ErrorCode;
 import com.example.intern.global.exception.GlobalException;
+import com.example.intern.user.entity.User;
 import com.example.intern.user.entity.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
@@ -26,6 +44,7 @@ class JwtUtilTest {
 		jwtUtil.secretKey = secretKey;
 		jwtUtil.accessTokenExpireTime = 600000L;
 		jwtUtil.refreshTokenExpireTime = 1209600000L;
+		jwtUtil.tokenCacheMaximumBytes = 1024 * 1024;
 		jwtUtil.init();
 
 	}
@@ -70,6 +89,115 @@ class JwtUtilTest {
 		assertTrue(isValid);
 	}
 
+	@Test
+	@DisplayName("이미 검증한 토큰은 캐시에서 Claims 반환")
+	void getUserInfoFromToken_ShouldReuseVerifiedClaims() {
+		// given
+		String token = jwtUtil.createAccessToken("testuser", UserRole.USER);
+
+		// when
+		Claims first = jwtUtil.getUserInfoFromToken(token);
+		Claims second = jwtUtil.getUserInfoFromToken(token);
+
+		// then
+		assertSame(first, second);
+		assertEquals("testuser", second.getSubject());
+		assertEquals(1, jwtUtil.getTokenCache().stats().hitCount());
+	}
+
+	@Test
+	@DisplayName("유효한 토큰 검증 결과는 VALID")
+	void verify_ShouldReturnValidWithClaims() {
+		// given
+		String token = jwtUtil.createAccessToken("testuser", UserRole.USER);
+
+		// when
+		TokenVerification verification = jwtUtil.verify(token);
+
+		// then
+		assertEquals(TokenVerification.Status.VALID, verification.getStatus());
+		assertEquals("testuser", verification.getClaims().getSubject());
+	}
+
+	@Test
+	@DisplayName("만료된 토큰 검증 결과는 Claims 를 담은 EXPIRED")
+	void verify_ShouldReturnExpiredWithClaims() {
+		// given
+		jwtUtil.accessTokenExpireTime = -1000L;
+		String token = jwtUtil.createAccessToken("testuser", UserRole.USER);
+
+		// when
+		TokenVerification verification = jwtUtil.verify(token);
+
+		// then
+		assertEquals(TokenVerification.Status.EXPIRED, verification.getStatus());
+		assertEquals("testuser", verification.getClaims().getSubject());
+	}
+
+	@Test
+	@DisplayName("다른 키로 서명된 토큰 검증 결과는 BAD_SIGNATURE")
+	void verify_ShouldReturnBadSignatureForForeignKey() {
+		// given
+		JwtUtil otherJwtUtil = new JwtUtil();
+		otherJwtUtil.secretKey = Base64.getEncoder().encodeToString("another-secret-key-which-is-long-enough".getBytes());
+		otherJwtUtil.accessTokenExpireTime = 600000L;
+		otherJwtUtil.init();
+		String token = otherJwtUtil.createAccessToken("testuser", UserRole.USER);
+
+		// when
+		TokenVerification verification = jwtUtil.verify(token);
+
+		// then
+		assertEquals(TokenVerification.Status.BAD_SIGNATURE, verification.getStatus());
+		assertNull(verification.getClaims());
+	}
+
+	@Test
+	@DisplayName("구조가 잘못된 토큰 검증 결과는 MALFORMED")
+	void verify_ShouldReturnMalformedForGarbage() {
+		assertEquals(TokenVerification.Status.MALFORMED, jwtUtil.verify("not-a-jwt").getStatus());
+		assertEquals(TokenVerification.Status.MALFORMED, jwtUtil.verify("a.b.c!").getStatus());
+		assertEquals(TokenVerification.Status.MALFORMED, jwtUtil.verify("a..c").getStatus());
+	}
+
+	@Test
+	@DisplayName("같은 Refresh Token 의 동시 재발급은 한 번만 서명하고 결과를 공유")
+	void refreshAccessToken_ShouldCoalesceConcurrentRefreshes() throws Exception {
+		// given
+		jwtUtil.refreshCoalesceWindowMillis = 5000L;
+		jwtUtil.refreshCoalesceMaximumSize = 100L;
+		jwtUtil.init();
+		String refreshToken = jwtUtil.createRefreshToken("testuser");
+		AtomicInteger mintCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		// when
+		List<Future<String>> results = new ArrayList<>();
+		for (int i = 0; i < 32; i++) {
+			results.add(executor.submit(() -> jwtUtil.getRefreshCoalescer().coalesce(refreshToken, () -> {
+				mintCount.incrementAndGet();
+				sleep(50);
+				return jwtUtil.createAccessToken("testuser", UserRole.USER);
+			})));
+		}
+		Set<String> issuedTokens = new HashSet<>();
+		for (Future<String> result : results) {
+			issuedTokens.add(result.get());
+		}
+		executor.shutdown();
+
+		// then
+		assertEquals(1, mintCount.get());
+		assertEquals(1, issuedTokens.size());
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
 
 	@Test
 	@DisplayName("잘못된 Refresh Token 검증 시 예외 발생")
@@ -150,4 +278,258 @@ class JwtUtilTest {
 		// then
 		assertEquals("", response.getHeader(JwtUtil.AUTHORIZATION_HEADER));
 	}
+
+	@Test
+	@DisplayName("필터가 재발급한 토큰 헤더가 있어도 로그아웃 후 Authorization 헤더는 빈 값 하나만 남음")
+	void clearAuthToken_ReplacesRefreshedAccessTokenHeader() {
+		// given
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		String refreshed = jwtUtil.createAccessToken("testuser", UserRole.USER);
+		jwtUtil.addJwtToHeader(JwtUtil.AUTHORIZATION_HEADER, JwtUtil.BEARER_PREFIX + refreshed, response);
+
+		// when
+		String issued = jwtUtil.getIssuedAccessToken(response);
+		jwtUtil.clearAuthToken(response);
+
+		// then
+		assertEquals(refreshed, issued);
+		assertEquals(List.of(""), response.getHeaders(JwtUtil.AUTHORIZATION_HEADER));
+	}
+
+	@Test
+	@DisplayName("opaque 모드에서는 저장소 참조 토큰을 발급하고 폐기 즉시 검증 실패")
+	void opaqueMode_IssuesReferenceTokenAndRevokes() {
+		// given
+		jwtUtil.tokenMode = "opaque";
+		jwtUtil.opaqueCapacity = 1024;
+		jwtUtil.opaqueSegments = 4;
+		jwtUtil.init();
+		String token = jwtUtil.createAccessToken("testuser", UserRole.USER);
+
+		// when
+		TokenVerification verification = jwtUtil.verify(token);
+		boolean revoked = jwtUtil.revokeToken(token);
+
+		// then
+		assertEquals(OpaqueTokenStore.TOKEN_LENGTH, token.length());
+		assertTrue(verification.isValid());
+		assertEquals("testuser", verification.getClaims().getSubject());
+		assertEquals(UserRole.USER, jwtUtil.getUserRoleFromClaims(verification.getClaims()));
+		assertTrue(revoked);
+		assertEquals(TokenVerification.Status.UNKNOWN, jwtUtil.verify(token).getStatus());
+	}
+
+	@Test
+	@DisplayName("폐기한 토큰은 캐시에 남아 있어도 REVOKED, 다른 토큰은 영향 없음")
+	void revokeToken_RejectsOnlyThatToken() {
+		// given
+		String revoked = jwtUtil.createAccessToken("testuser", UserRole.USER);
+		String other = jwtUtil.createAccessToken("testuser", UserRole.USER);
+		assertTrue(jwtUtil.verify(revoked).isValid());
+
+		// when
+		boolean result = jwtUtil.revokeToken(revoked);
+
+		// then
+		assertTrue(result);
+		assertEquals(TokenVerification.Status.REVOKED, jwtUtil.verify(revoked).getStatus());
+		assertTrue(jwtUtil.verify(other).isValid());
+		assertFalse(jwtUtil.revokeToken("not-a-jwt"));
+	}
+
+	@Test
+	@DisplayName("사용자 단위 폐기는 그 시점까지 발급된 액세스/리프레시 토큰을 모두 거부")
+	void revokeAllTokens_RejectsEveryTokenOfUser() {
+		// given
+		String accessToken = jwtUtil.createAccessToken("testuser", UserRole.USER);
+		String refreshToken = jwtUtil.createRefreshToken("testuser");
+		String otherUserToken = jwtUtil.createAccessToken("otheruser", UserRole.USER);
+		sleep(2);
+
+		// when
+		jwtUtil.revokeAllTokens("testuser");
+
+		// then
+		assertEquals(TokenVerification.Status.REVOKED, jwtUtil.verify(accessToken).getStatus());
+		assertEquals(TokenVerification.Status.REVOKED, jwtUtil.verify(refreshToken).getStatus());
+		assertTrue(jwtUtil.verify(otherUserToken).isValid());
+	}
+
+	@Test
+	@DisplayName("모든 기기에서 로그아웃한 직후(같은 초) 다시 로그인한 토큰은 유효")
+	void revokeAllTokens_ThenImmediateLogin_NewTokensValid() {
+		// given
+		User user = User.builder().id(1L).username("testuser").userRole(UserRole.USER).build();
+		String oldToken = jwtUtil.createAccessToken(user);
+		sleep(2);
+		jwtUtil.revokeAllTokens(user);
+
+		// when
+		IssuedTokens tokens = jwtUtil.createTokens(user);
+
+		// then
+		assertEquals(TokenVerification.Status.REVOKED, jwtUtil.verify(oldToken).getStatus());
+		assertTrue(jwtUtil.verify(tokens.getAccessToken()).isValid());
+		assertTrue(jwtUtil.verify(tokens.getRefreshTokenCookie().getValue()).isValid());
+	}
+
+	@Test
+	@DisplayName("정리 작업은 만료된 폐기 항목만 지우고 필터를 다시 만들어도 폐기 상태 유지")
+	void pruneRevokedTokens_KeepsLiveRevocations() {
+		// given
+		String token = jwtUtil.createAccessToken("testuser", UserRole.USER);
+		jwtUtil.revokeToken(token);
+		jwtUtil.getRevocationList().revokeToken("expired-jti", System.currentTimeMillis() - 1000);
+
+		// when
+		jwtUtil.pruneRevokedTokens();
+
+		// then
+		assertEquals(1, jwtUtil.getRevocationList().size());
+		assertEquals(TokenVerification.Status.REVOKED, jwtUtil.verify(token).getStatus());
+	}
+
+	@Test
+	@DisplayName("고정 스키마가 아닌 토큰도 jjwt 로 검증")
+	void verify_NonFixedSchemaToken_FallsBackToJjwt() {
+		// given
+		String token = Jwts.builder()
+			.setSubject("testuser")
+			.setExpiration(new Date(System.currentTimeMillis() + 600000))
+			.claim("scope", "admin")
+			.signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(jwtUtil.secretKey)))
+			.compact();
+
+		// when
+		TokenVerification verification = jwtUtil.verify(token);
+
+		// then
+		assertTrue(verification.isValid());
+		assertEquals("admin", verification.getClaims().get("scope", String.class));
+	}
+
+	@Test
+	@DisplayName("키 파일을 바꾸면 새 토큰은 새 키로 서명하고 빠진 키의 토큰도 만료 전까지 유효")
+	void reloadSigningKeys_RotatesWithoutRejectingOldTokens(@TempDir Path tempDir) throws Exception {
+		// given
+		Path keyFile = tempDir.resolve("jwt-keys.properties");
+		String legacyToken = jwtUtil.createAccessToken("testuser", UserRole.USER);
+		writeKeyFile(keyFile, "k1", "k1", 1000);
+		jwtUtil.keyFile = keyFile.toString();
+		jwtUtil.reloadSigningKeys();
+		String k1Token = jwtUtil.createAccessToken("testuser", UserRole.USER);
+
+		// when
+		writeKeyFile(keyFile, "k2", "k2", 2000);
+		jwtUtil.reloadSigningKeys();
+		String k2Token = jwtUtil.createAccessToken("testuser", UserRole.USER);
+
+		// then
+		assertNotEquals(k1Token.substring(0, k1Token.indexOf('.')), k2Token.substring(0, k2Token.indexOf('.')));
+		assertTrue(jwtUtil.verify(legacyToken).isValid());
+		assertTrue(jwtUtil.verify(k1Token).isValid());
+		assertTrue(jwtUtil.verify(k2Token).isValid());
+	}
+
+	@Test
+	@DisplayName("같은 kid 의 비밀 값을 바꾸면 이미 캐시된 토큰도 BAD_SIGNATURE")
+	void reloadSigningKeys_ReplacedSecret_InvalidatesCachedTokens(@TempDir Path tempDir) throws Exception {
+		// given
+		Path keyFile = tempDir.resolve("jwt-keys.properties");
+		writeKeyFile(keyFile, "k1", "k1", 1000);
+		jwtUtil.keyFile = keyFile.toString();
+		jwtUtil.reloadSigningKeys();
+		String k1Token = jwtUtil.createAccessToken("testuser", UserRole.USER);
+		assertTrue(jwtUtil.verify(k1Token).isValid());
+
+		// when
+		writeKeyFile(keyFile, "k1", "k1", "replaced", 2000);
+		jwtUtil.reloadSigningKeys();
+
+		// then
+		assertEquals(TokenVerification.Status.BAD_SIGNATURE, jwtUtil.verify(k1Token).getStatus());
+	}
+
+	@Test
+	@DisplayName("키 링에 없는 kid 로 서명된 토큰은 BAD_SIGNATURE")
+	void verify_UnknownKid_BadSignature() {
+		// given
+		String token = Jwts.builder()
+			.setHeaderParam("kid", "unknown")
+			.setSubject("testuser")
+			.setExpiration(new Date(System.currentTimeMillis() + 600000))
+			.signWith(Keys.hmacShaKeyFor("another-secret-key-which-needs-to-be-long".getBytes()))
+			.compact();
+
+		// when & then
+		assertEquals(TokenVerification.Status.BAD_SIGNATURE, jwtUtil.verify(token).getStatus());
+	}
+
+	@Test
+	@DisplayName("압축 토큰은 uid 와 role 번호만 담아 더 짧고, 재발급과 사용자 단위 폐기가 동작")
+	void compactTokens_ShorterAndVerifiable() {
+		// given
+		User user = User.builder().id(1L).username("testuser").userRole(UserRole.USER).build();
+		String classicToken = jwtUtil.createAccessToken(user);
+		jwtUtil.compactTokens = true;
+
+		// when
+		IssuedTokens tokens = jwtUtil.createTokens(user);
+		String refreshToken = tokens.getRefreshTokenCookie().getValue();
+		TokenVerification verification = jwtUtil.verify(tokens.getAccessToken());
+		String refreshedToken = jwtUtil.refreshAccessToken(refreshToken);
+
+		// then
+		assertTrue(tokens.getAccessToken().length() < classicToken.length());
+		assertTrue(verification.isValid());
+		assertEquals(1L, jwtUtil.getUserIdFromClaims(verification.getClaims()));
+		assertEquals(UserRole.USER, jwtUtil.getUserRoleFromClaims(verification.getClaims()));
+		assertEquals(1L, jwtUtil.getUserIdFromClaims(jwtUtil.verify(refreshedToken).getClaims()));
+
+		sleep(2);
+		jwtUtil.revokeAllTokens(user);
+		assertEquals(TokenVerification.Status.REVOKED, jwtUtil.verify(tokens.getAccessToken()).getStatus());
+		assertEquals(TokenVerification.Status.REVOKED, jwtUtil.verify(refreshToken).getStatus());
+	}
+
+	@Test
+	@DisplayName("압축 토큰을 담은 Authorization 헤더가 기존 토큰 헤더보다 작음")
+	void compactTokens_SmallerAuthorizationHeader() {
+		// given
+		User user = User.builder().id(123456L).username("benchmark-user").userRole(UserRole.USER).build();
+		int classicBytes = (JwtUtil.BEARER_PREFIX + jwtUtil.createAccessToken(user)).getBytes(StandardCharsets.US_ASCII).length;
+		jwtUtil.compactTokens = true;
+
+		// when
+		int compactBytes = (JwtUtil.BEARER_PREFIX + jwtUtil.createAccessToken(user)).getBytes(StandardCharsets.US_ASCII).length;
+
+		// then
+		assertTrue(compactBytes < classicBytes, "compact=" + compactBytes + ", classic=" + classicBytes);
+	}
+
+	@Test
+	@DisplayName("id 키 형태의 username 으로 전체 폐기해도 그 id 사용자의 압축 토큰은 유효")
+	void revokeAllTokens_IdKeyLikeName_DoesNotRevokeOtherUser() {
+		// given
+		jwtUtil.compactTokens = true;
+		User victim = User.builder().id(1L).username("victim").userRole(UserRole.USER).build();
+		String victimToken = jwtUtil.createAccessToken(victim);
+		sleep(2);
+
+		// when
+		jwtUtil.revokeAllTokens(TokenRevocationList.userIdSubject(1L));
+
+		// then
+		assertTrue(jwtUtil.verify(victimToken).isValid());
+	}
+
+	private void writeKeyFile(Path keyFile, String activeKid, String kid, long modifiedAt) throws Exception {
+		writeKeyFile(keyFile, activeKid, kid, kid, modifiedAt);
+	}
+
+	private void writeKeyFile(Path keyFile, String activeKid, String kid, String secretSeed, long modifiedAt) throws Exception {
+		String secret = Base64.getEncoder().encodeToString(("secret-for-" + secretSeed + "-which-needs-to-be-long-enough").getBytes());
+		Files.writeString(keyFile, "active=" + activeKid + "\nkeys." + kid + "=" + secret + "\n");
+		Files.setLastModifiedTime(keyFile, FileTime.fromMillis(modifiedAt));
+	}
 }
@@ -0,0 +1,104 @@
+package com.example.intern.jwt;
+
+import com.example.intern.user.entity.UserRole;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpaqueTokenStoreTest {
+
+	@Test
+	@DisplayName("발급한 토큰으로 사용자 정보와 만료 시각 조회")
+	void issue_ThenLookup_ReturnsEntry() {
+		// given
+		OpaqueTokenStore store = new OpaqueTokenStore(1024, 4, 0);
+		long expiresAt = System.currentTimeMillis() + 60000;
+
+		// when
+		String token = store.issue("testuser", UserRole.USER, expiresAt);
+		OpaqueTokenStore.Entry entry = store.lookup(token);
+
+		// then
+		assertEquals(OpaqueTokenStore.TOKEN_LENGTH, token.length());
+		assertTrue(OpaqueTokenStore.isOpaqueToken(token));
+		assertEquals("testuser", entry.getUsername());
+		assertEquals(UserRole.USER, entry.getUserRole());
+		assertEquals(expiresAt, entry.getExpiresAt());
+	}
+
+	@Test
+	@DisplayName("삭제한 토큰은 즉시 조회되지 않고 나머지 토큰은 그대로 조회")
+	void remove_RevokesOnlyThatToken() {
+		// given
+		OpaqueTokenStore store = new OpaqueTokenStore(64, 1, 0);
+		long expiresAt = System.currentTimeMillis() + 60000;
+		List<String> tokens = new ArrayList<>();
+		for (int i = 0; i < 40; i++) {
+			tokens.add(store.issue("user" + i, UserRole.USER, expiresAt));
+		}
+
+		// when
+		boolean removed = store.remove(tokens.get(7));
+
+		// then
+		assertTrue(removed);
+		assertNull(store.lookup(tokens.get(7)));
+		for (int i = 0; i < tokens.size(); i++) {
+			if (i != 7) {
+				assertEquals("user" + i, store.lookup(tokens.get(i)).getUsername());
+			}
+		}
+		assertEquals(39, store.size());
+	}
+
+	@Test
+	@DisplayName("공간이 부족하면 가장 먼저 발급된 토큰부터 제거")
+	void issue_WhenFull_EvictsOldest() {
+		// given
+		OpaqueTokenStore store = new OpaqueTokenStore(16, 1, 0);
+		long expiresAt = System.currentTimeMillis() + 60000;
+		List<String> tokens = new ArrayList<>();
+
+		// when
+		for (int i = 0; i < 20; i++) {
+			tokens.add(store.issue("user" + i, UserRole.USER, expiresAt + i));
+		}
+
+		// then
+		assertNull(store.lookup(tokens.get(0)));
+		assertNotNull(store.lookup(tokens.get(19)));
+		assertTrue(store.size() <= 12);
+		assertTrue(store.evictionCount() >= 8);
+	}
+
+	@Test
+	@DisplayName("보관 기한이 지난 만료 토큰은 다음 발급 시 제거")
+	void issue_EvictsExpiredEntries() {
+		// given
+		OpaqueTokenStore store = new OpaqueTokenStore(1024, 1, 0);
+		String expired = store.issue("old", UserRole.USER, System.currentTimeMillis() - 1000);
+
+		// when
+		store.issue("new", UserRole.USER, System.currentTimeMillis() + 60000);
+
+		// then
+		assertNull(store.lookup(expired));
+		assertEquals(1, store.size());
+	}
+
+	@Test
+	@DisplayName("형식이 맞지 않거나 없는 토큰은 null")
+	void lookup_UnknownToken_ReturnsNull() {
+		// given
+		OpaqueTokenStore store = new OpaqueTokenStore(1024, 1, 0);
+
+		// when & then
+		assertNull(store.lookup("short"));
+		assertNull(store.lookup("AAAAAAAAAAAAAAAAAAAAA!"));
+		assertNull(store.lookup("AAAAAAAAAAAAAAAAAAAAAA"));
+		assertNull(store.issue("x".repeat(OpaqueTokenStore.MAX_USERNAME_BYTES + 1), UserRole.USER, 0));
+	}
+}
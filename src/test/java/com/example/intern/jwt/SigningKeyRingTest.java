@@ -0,0 +1,55 @@
+package com.example.intern.jwt;
+
+import java.util.Base64;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SigningKeyRingTest {
+
+	private static final long RETENTION_MILLIS = 1000;
+
+	@Test
+	@DisplayName("kid 없는 기존 키도 키 파일로 교체하면 retention 뒤에 은퇴")
+	void rotate_RetiresLegacyKeyAfterRetention() {
+		// given
+		SigningKey legacy = SigningKey.of(null, secret("legacy"));
+		String legacyToken = legacy.getHeaderSegment() + ".payload.signature";
+		SigningKeyRing first = SigningKeyRing.rotate(Map.of("k1", SigningKey.of("k1", secret("k1"))), "k1",
+			SigningKeyRing.single(legacy), 0, RETENTION_MILLIS);
+
+		// when
+		SigningKeyRing second = SigningKeyRing.rotate(Map.of("k2", SigningKey.of("k2", secret("k2"))), "k2",
+			first, 500, RETENTION_MILLIS);
+
+		// then
+		assertNotNull(second.find(legacyToken, RETENTION_MILLIS));
+		assertNull(second.find(legacyToken, RETENTION_MILLIS + 1));
+		assertNull(SigningKeyRing.rotate(Map.of("k2", SigningKey.of("k2", secret("k2"))), "k2",
+			second, RETENTION_MILLIS + 1, RETENTION_MILLIS).find(legacyToken, RETENTION_MILLIS + 1));
+	}
+
+	@Test
+	@DisplayName("같은 kid 의 비밀 값을 바꾼 스냅샷만 replacesSecretOf 가 true")
+	void replacesSecretOf_DetectsChangedSecret() {
+		// given
+		SigningKeyRing previous = SigningKeyRing.rotate(Map.of("k1", SigningKey.of("k1", secret("k1"))), "k1",
+			null, 0, RETENTION_MILLIS);
+
+		// when
+		SigningKeyRing sameSecret = SigningKeyRing.rotate(Map.of("k1", SigningKey.of("k1", secret("k1")),
+			"k2", SigningKey.of("k2", secret("k2"))), "k2", previous, 0, RETENTION_MILLIS);
+		SigningKeyRing changedSecret = SigningKeyRing.rotate(Map.of("k1", SigningKey.of("k1", secret("changed"))), "k1",
+			previous, 0, RETENTION_MILLIS);
+
+		// then
+		assertFalse(sameSecret.replacesSecretOf(previous));
+		assertTrue(changedSecret.replacesSecretOf(previous));
+	}
+
+	private static String secret(String seed) {
+		return Base64.getEncoder().encodeToString(("secret-for-" + seed + "-which-needs-to-be-long-enough").getBytes());
+	}
+}
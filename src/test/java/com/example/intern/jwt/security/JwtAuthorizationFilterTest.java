@@ -0,0 +1,384 @@
+package com.example.intern.jwt.security;
+
+import com.example.intern.global.metrics.AuthMetrics;
+import com.example.intern.global.metrics.ServerTiming;
+import com.example.intern.jwt.JwtUtil;
+import com.example.intern.jwt.TokenVerification;
+import com.example.intern.user.entity.User;
+import com.example.intern.user.entity.UserRole;
+import com.example.intern.user.repository.UserRepository;
+import com.sun.management.ThreadMXBean;
+import jakarta.servlet.http.Cookie;
+import java.lang.management.ManagementFactory;
+import java.util.Base64;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class JwtAuthorizationFilterTest {
+
+	// 토큰 추출, 서명 검증, 클레임 디코딩, principal/Authentication/SecurityContext 생성을 모두 포함한 요청당 할당 예산
+	private static final long ALLOCATION_BUDGET_BYTES = 8 * 1024;
+	private static final int ALLOCATION_WARMUP_REQUESTS = 20_000;
+	private static final int ALLOCATION_MEASURED_REQUESTS = 10_000;
+
+	private JwtUtil jwtUtil;
+	private UserRepository userRepository;
+	private UserDetailServiceImpl userDetailService;
+
+	@BeforeEach
+	void setUp() {
+		String key = "my-secret-key-which-needs-to-be-long-enough";
+		jwtUtil = new JwtUtil();
+		ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(key.getBytes()));
+		ReflectionTestUtils.setField(jwtUtil, "accessTokenExpireTime", 600000L);
+		ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpireTime", 1209600000L);
+		jwtUtil.init();
+
+		userRepository = mock(UserRepository.class);
+		userDetailService = new UserDetailServiceImpl(userRepository, UserDetailsCache.disabled());
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	@DisplayName("기본 모드에서는 요청마다 DB에서 principal 조회")
+	void doFilter_LoadsUserFromRepository() throws Exception {
+		// given
+		JwtAuthorizationFilter filter = new JwtAuthorizationFilter(jwtUtil, userDetailService, false, AuthMetrics.noop());
+		given(userRepository.findByUsername("testuser")).willReturn(Optional.of(createUser()));
+
+		// when
+		filter.doFilter(createRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+		// then
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		assertInstanceOf(UserDetailsImpl.class, authentication.getPrincipal());
+		verify(userRepository).findByUsername("testuser");
+	}
+
+	@Test
+	@DisplayName("stateless 모드에서는 토큰 클레임만으로 principal 구성")
+	void doFilter_StatelessPrincipal_SkipsRepository() throws Exception {
+		// given
+		JwtAuthorizationFilter filter = new JwtAuthorizationFilter(jwtUtil, userDetailService, true, AuthMetrics.noop());
+
+		// when
+		filter.doFilter(createRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+		// then
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		ClaimsUserDetails principal = assertInstanceOf(ClaimsUserDetails.class, authentication.getPrincipal());
+		assertEquals("testuser", principal.getUsername());
+		assertEquals(UserRole.USER, principal.getUserRole());
+		assertTrue(authentication.getAuthorities().stream()
+			.anyMatch(authority -> UserRole.Authority.USER.equals(authority.getAuthority())));
+		verifyNoInteractions(userRepository);
+	}
+
+	@Test
+	@DisplayName("stateless principal의 User 엔티티는 처음 요청 시 한 번만 조회")
+	void statelessPrincipal_LoadsUserLazily() throws Exception {
+		// given
+		JwtAuthorizationFilter filter = new JwtAuthorizationFilter(jwtUtil, userDetailService, true, AuthMetrics.noop());
+		given(userRepository.findByUsername("testuser")).willReturn(Optional.of(createUser()));
+		filter.doFilter(createRequest(), new MockHttpServletResponse(), new MockFilterChain());
+		ClaimsUserDetails principal = (ClaimsUserDetails) SecurityContextHolder.getContext()
+			.getAuthentication().getPrincipal();
+
+		// when
+		User first = principal.getUser();
+		User second = principal.getUser();
+
+		// then
+		assertSame(first, second);
+		verify(userRepository, times(1)).findByUsername("testuser");
+	}
+
+	@Test
+	@DisplayName("만료된 액세스 토큰은 리프레시 토큰으로 재발급 후 요청을 계속 처리")
+	void doFilter_ExpiredAccessToken_RefreshesAndContinues() throws Exception {
+		// given
+		JwtAuthorizationFilter filter = new JwtAuthorizationFilter(jwtUtil, userDetailService, true, AuthMetrics.noop());
+		MockHttpServletRequest request = createExpiredRequest();
+		request.setCookies(new Cookie(JwtUtil.REFRESH_HEADER, jwtUtil.createRefreshToken("testuser")));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain filterChain = new MockFilterChain();
+
+		// when
+		filter.doFilter(request, response, filterChain);
+
+		// then
+		String newAccessToken = jwtUtil.getTokenFromHeader(JwtUtil.AUTHORIZATION_HEADER, toRequest(response));
+		assertTrue(jwtUtil.verify(newAccessToken).isValid());
+		assertNotNull(filterChain.getRequest());
+		assertEquals("testuser", SecurityContextHolder.getContext().getAuthentication().getName());
+	}
+
+	@Test
+	@DisplayName("만료된 액세스 토큰에 리프레시 토큰이 없으면 401")
+	void doFilter_ExpiredAccessTokenWithoutRefresh_Unauthorized() throws Exception {
+		// given
+		JwtAuthorizationFilter filter = new JwtAuthorizationFilter(jwtUtil, userDetailService, true, AuthMetrics.noop());
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain filterChain = new MockFilterChain();
+
+		// when
+		filter.doFilter(createExpiredRequest(), response, filterChain);
+
+		// then
+		assertEquals(401, response.getStatus());
+		assertNull(filterChain.getRequest());
+	}
+
+	@Test
+	@DisplayName("만료된 지 오래된 액세스 토큰은 토큰의 role 대신 DB 에서 읽은 role 로 재발급")
+	void doFilter_StaleExpiredAccessToken_ReloadsRole() throws Exception {
+		// given
+		JwtAuthorizationFilter filter = new JwtAuthorizationFilter(jwtUtil, userDetailService, true, AuthMetrics.noop());
+		given(userRepository.findByUsername("testuser")).willReturn(Optional.of(createUser()));
+		MockHttpServletRequest request = createExpiredRequest(-700000L);
+		request.setCookies(new Cookie(JwtUtil.REFRESH_HEADER, jwtUtil.createRefreshToken("testuser")));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain filterChain = new MockFilterChain();
+
+		// when
+		filter.doFilter(request, response, filterChain);
+
+		// then
+		String newAccessToken = jwtUtil.getTokenFromHeader(JwtUtil.AUTHORIZATION_HEADER, toRequest(response));
+		assertTrue(jwtUtil.verify(newAccessToken).isValid());
+		assertNotNull(filterChain.getRequest());
+		assertInstanceOf(UserDetailsImpl.class, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+		verify(userRepository).findByUsername("testuser");
+	}
+
+	@Test
+	@DisplayName("만료된 지 오래된 액세스 토큰의 사용자가 DB 에 없으면 401")
+	void doFilter_StaleExpiredAccessTokenOfDeletedUser_Unauthorized() throws Exception {
+		// given
+		JwtAuthorizationFilter filter = new JwtAuthorizationFilter(jwtUtil, userDetailService, true, AuthMetrics.noop());
+		given(userRepository.findByUsername("testuser")).willReturn(Optional.empty());
+		MockHttpServletRequest request = createExpiredRequest(-700000L);
+		request.setCookies(new Cookie(JwtUtil.REFRESH_HEADER, jwtUtil.createRefreshToken("testuser")));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain filterChain = new MockFilterChain();
+
+		// when
+		filter.doFilter(request, response, filterChain);
+
+		// then
+		assertEquals(401, response.getStatus());
+		assertNull(response.getHeader(JwtUtil.AUTHORIZATION_HEADER));
+		assertNull(filterChain.getRequest());
+	}
+
+	@Test
+	@DisplayName("저장소에서 밀려난 불투명 토큰은 리프레시 토큰의 사용자와 role 로 재발급")
+	void doFilter_EvictedOpaqueToken_RefreshesWithRefreshSubject() throws Exception {
+		// given
+		ReflectionTestUtils.setField(jwtUtil, "tokenMode", "opaque");
+		ReflectionTestUtils.setField(jwtUtil, "opaqueCapacity", 1024);
+		ReflectionTestUtils.setField(jwtUtil, "opaqueSegments", 4);
+		jwtUtil.init();
+		String evictedToken = jwtUtil.createAccessToken("testuser", UserRole.USER);
+		jwtUtil.getOpaqueTokenStore().remove(evictedToken);
+		given(userRepository.findByUsername("testuser")).willReturn(Optional.of(createUser()));
+
+		JwtAuthorizationFilter filter = new JwtAuthorizationFilter(jwtUtil, userDetailService, false, AuthMetrics.noop());
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(JwtUtil.AUTHORIZATION_HEADER, JwtUtil.BEARER_PREFIX + evictedToken);
+		request.setCookies(new Cookie(JwtUtil.REFRESH_HEADER, jwtUtil.createRefreshToken("testuser")));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain filterChain = new MockFilterChain();
+
+		// when
+		filter.doFilter(request, response, filterChain);
+
+		// then
+		String newAccessToken = jwtUtil.getTokenFromHeader(JwtUtil.AUTHORIZATION_HEADER, toRequest(response));
+		TokenVerification verification = jwtUtil.verify(newAccessToken);
+		assertTrue(verification.isValid());
+		assertEquals(UserRole.USER, jwtUtil.getUserRoleFromClaims(verification.getClaims()));
+		assertNotNull(filterChain.getRequest());
+		assertEquals("testuser", SecurityContextHolder.getContext().getAuthentication().getName());
+	}
+
+	@Test
+	@DisplayName("저장소에 없는 불투명 토큰에 리프레시 토큰이 없으면 401")
+	void doFilter_EvictedOpaqueTokenWithoutRefresh_Unauthorized() throws Exception {
+		// given
+		ReflectionTestUtils.setField(jwtUtil, "tokenMode", "opaque");
+		ReflectionTestUtils.setField(jwtUtil, "opaqueCapacity", 1024);
+		ReflectionTestUtils.setField(jwtUtil, "opaqueSegments", 4);
+		jwtUtil.init();
+		String evictedToken = jwtUtil.createAccessToken("testuser", UserRole.USER);
+		jwtUtil.getOpaqueTokenStore().remove(evictedToken);
+
+		JwtAuthorizationFilter filter = new JwtAuthorizationFilter(jwtUtil, userDetailService, false, AuthMetrics.noop());
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(JwtUtil.AUTHORIZATION_HEADER, JwtUtil.BEARER_PREFIX + evictedToken);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain filterChain = new MockFilterChain();
+
+		// when
+		filter.doFilter(request, response, filterChain);
+
+		// then
+		assertEquals(401, response.getStatus());
+		assertNull(filterChain.getRequest());
+		verifyNoInteractions(userRepository);
+	}
+
+	@Test
+	@DisplayName("Server-Timing 을 켜면 구간별 처리 시간을 헤더로 반환")
+	void doFilter_ServerTimingEnabled_AddsHeader() throws Exception {
+		// given
+		JwtAuthorizationFilter filter = new JwtAuthorizationFilter(jwtUtil, userDetailService, false, AuthMetrics.noop());
+		filter.setServerTimingEnabled(true);
+		given(userRepository.findByUsername("testuser")).willReturn(Optional.of(createUser()));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		// when
+		filter.doFilter(createRequest(), response, new MockFilterChain());
+
+		// then
+		String serverTiming = response.getHeader(ServerTiming.HEADER);
+		assertNotNull(serverTiming);
+		assertTrue(serverTiming.contains("verify;dur="));
+		assertTrue(serverTiming.contains("principal;dur="));
+		assertTrue(serverTiming.contains("handler;dur="));
+	}
+
+	@Test
+	@DisplayName("Server-Timing 이 꺼져 있으면 헤더를 붙이지 않음")
+	void doFilter_ServerTimingDisabled_NoHeader() throws Exception {
+		// given
+		JwtAuthorizationFilter filter = new JwtAuthorizationFilter(jwtUtil, userDetailService, true, AuthMetrics.noop());
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		// when
+		filter.doFilter(createRequest(), response, new MockFilterChain());
+
+		// then
+		assertNull(response.getHeader(ServerTiming.HEADER));
+	}
+
+	@Test
+	@DisplayName("압축 토큰은 stateless 모드에서도 uid 로 principal 조회")
+	void doFilter_CompactToken_LoadsUserById() throws Exception {
+		// given
+		JwtAuthorizationFilter filter = new JwtAuthorizationFilter(jwtUtil, userDetailService, true, AuthMetrics.noop());
+		ReflectionTestUtils.setField(jwtUtil, "compactTokens", true);
+		given(userRepository.findById(1L)).willReturn(Optional.of(createUser()));
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(JwtUtil.AUTHORIZATION_HEADER, JwtUtil.BEARER_PREFIX + jwtUtil.createAccessToken(createUser()));
+
+		// when
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+		// then
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		assertInstanceOf(UserDetailsImpl.class, authentication.getPrincipal());
+		assertEquals("testuser", authentication.getName());
+		verify(userRepository).findById(1L);
+	}
+
+	@Test
+	@DisplayName("역할별 권한 목록은 요청마다 새로 만들지 않고 공유")
+	void doFilter_ReusesRoleAuthorities() throws Exception {
+		// given
+		JwtAuthorizationFilter filter = new JwtAuthorizationFilter(jwtUtil, userDetailService, true, AuthMetrics.noop());
+
+		// when
+		filter.doFilter(createRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+		// then
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		assertSame(UserRole.USER.getGrantedAuthorities(), authentication.getAuthorities());
+		assertEquals("testuser", authentication.getName());
+	}
+
+	@Test
+	@DisplayName("인증된 요청 한 건의 할당량은 정해진 예산 이하")
+	void doFilter_AllocationPerRequestWithinBudget() throws Exception {
+		// given
+		Assumptions.assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean);
+		ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		Assumptions.assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled());
+		JwtAuthorizationFilter filter = new JwtAuthorizationFilter(jwtUtil, userDetailService, true, AuthMetrics.noop());
+		MockHttpServletRequest request = createRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain filterChain = new MockFilterChain();
+		for (int i = 0; i < ALLOCATION_WARMUP_REQUESTS; i++) {
+			filterChain.reset();
+			filter.doFilter(request, response, filterChain);
+		}
+
+		// when
+		long threadId = Thread.currentThread().threadId();
+		long before = threadMXBean.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < ALLOCATION_MEASURED_REQUESTS; i++) {
+			filterChain.reset();
+			filter.doFilter(request, response, filterChain);
+		}
+		long bytesPerRequest = (threadMXBean.getThreadAllocatedBytes(threadId) - before) / ALLOCATION_MEASURED_REQUESTS;
+
+		// then
+		assertTrue(bytesPerRequest <= ALLOCATION_BUDGET_BYTES, "bytes per request: " + bytesPerRequest);
+	}
+
+	private MockHttpServletRequest createExpiredRequest() {
+		return createExpiredRequest(-1000L);
+	}
+
+	// 음수 유효 시간(expireTime)으로 그만큼 전에 이미 만료된 액세스 토큰을 담은 요청
+	private MockHttpServletRequest createExpiredRequest(long expireTime) {
+		ReflectionTestUtils.setField(jwtUtil, "accessTokenExpireTime", expireTime);
+		String expiredToken = jwtUtil.createAccessToken("testuser", UserRole.USER);
+		ReflectionTestUtils.setField(jwtUtil, "accessTokenExpireTime", 600000L);
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(JwtUtil.AUTHORIZATION_HEADER, JwtUtil.BEARER_PREFIX + expiredToken);
+		return request;
+	}
+
+	private MockHttpServletRequest toRequest(MockHttpServletResponse response) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(JwtUtil.AUTHORIZATION_HEADER, response.getHeader(JwtUtil.AUTHORIZATION_HEADER));
+		return request;
+	}
+
+	private MockHttpServletRequest createRequest() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		String token = jwtUtil.createAccessToken("testuser", UserRole.USER);
+		request.addHeader(JwtUtil.AUTHORIZATION_HEADER, JwtUtil.BEARER_PREFIX + token);
+		return request;
+	}
+
+	private User createUser() {
+		return User.builder()
+			.id(1L)
+			.username("testuser")
+			.password("encodedPassword")
+			.nickname("nickname")
+			.userRole(UserRole.USER)
+			.build();
+	}
+}
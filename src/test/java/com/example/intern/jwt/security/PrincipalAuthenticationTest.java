@@ -0,0 +1,41 @@
+package com.example.intern.jwt.security;
+
+import com.example.intern.user.entity.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrincipalAuthenticationTest {
+
+	private final ClaimsUserDetails principal = new ClaimsUserDetails("testuser", UserRole.USER, username -> null);
+
+	@Test
+	@DisplayName("인증 해제(false)는 허용하고 다시 인증 상태로 바꾸는 것(true)은 거절")
+	void setAuthenticated_AllowsRevokeOnly() {
+		// given
+		PrincipalAuthentication authentication = new PrincipalAuthentication(principal);
+
+		// when
+		authentication.setAuthenticated(false);
+
+		// then
+		assertFalse(authentication.isAuthenticated());
+		assertThrows(IllegalArgumentException.class, () -> authentication.setAuthenticated(true));
+		assertFalse(authentication.isAuthenticated());
+	}
+
+	@Test
+	@DisplayName("같은 principal 과 인증 상태면 equals, hashCode 가 같음")
+	void equals_SamePrincipalAndState() {
+		// given
+		PrincipalAuthentication first = new PrincipalAuthentication(principal);
+		PrincipalAuthentication second = new PrincipalAuthentication(principal);
+
+		// when & then
+		assertEquals(first, second);
+		assertEquals(first.hashCode(), second.hashCode());
+		second.setAuthenticated(false);
+		assertNotEquals(first, second);
+	}
+}
@@ -0,0 +1,98 @@
+package com.example.intern.jwt.security;
+
+import com.example.intern.global.exception.ErrorCode;
+import com.example.intern.global.exception.GlobalException;
+import com.example.intern.user.entity.User;
+import com.example.intern.user.entity.UserRole;
+import com.example.intern.user.repository.UserRepository;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class UserDetailServiceImplTest {
+
+	private UserRepository userRepository;
+	private UserDetailsCache userDetailsCache;
+	private UserDetailServiceImpl userDetailService;
+
+	@BeforeEach
+	void setUp() {
+		userRepository = mock(UserRepository.class);
+		userDetailsCache = new UserDetailsCache(true, 100, Duration.ofMinutes(5));
+		userDetailService = new UserDetailServiceImpl(userRepository, userDetailsCache);
+		given(userRepository.findByUsername("testuser")).willReturn(Optional.of(User.builder()
+			.id(1L)
+			.username("testuser")
+			.password("encodedPassword")
+			.nickname("nickname")
+			.userRole(UserRole.USER)
+			.build()));
+	}
+
+	@Test
+	@DisplayName("캐시된 principal은 DB를 다시 조회하지 않음")
+	void loadUserByUsername_CacheHit() {
+		// when
+		UserDetails first = userDetailService.loadUserByUsername("testuser");
+		UserDetails second = userDetailService.loadUserByUsername("testuser");
+
+		// then
+		assertSame(first, second);
+		assertNull(second.getPassword());
+		verify(userRepository, times(1)).findByUsername("testuser");
+		assertEquals(1, userDetailsCache.stats().hitCount());
+		assertEquals(1, userDetailsCache.stats().missCount());
+	}
+
+	@Test
+	@DisplayName("무효화 후에는 DB에서 다시 조회")
+	void loadUserByUsername_AfterInvalidate() {
+		// given
+		userDetailService.loadUserByUsername("testuser");
+
+		// when
+		userDetailsCache.invalidate("testuser");
+		userDetailService.loadUserByUsername("testuser");
+
+		// then
+		verify(userRepository, times(2)).findByUsername("testuser");
+	}
+
+	@Test
+	@DisplayName("id 키와 같은 형태의 username 으로는 id 로 캐시된 다른 사용자의 principal 을 얻을 수 없음")
+	void loadUserByUsername_IdKeyLikeName_NotFound() {
+		// given
+		given(userRepository.findById(1L)).willReturn(Optional.of(User.builder()
+			.id(1L)
+			.username("testuser")
+			.password("encodedPassword")
+			.nickname("nickname")
+			.userRole(UserRole.USER)
+			.build()));
+		userDetailService.loadUserById(1L);
+
+		// when
+		GlobalException exception = assertThrows(GlobalException.class,
+			() -> userDetailService.loadUserByUsername(UserDetailsCache.idKey(1L)));
+
+		// then
+		assertEquals(ErrorCode.NOT_FOUND_USERNAME, exception.getErrorCode());
+		verify(userRepository, never()).findByUsername(UserDetailsCache.idKey(1L));
+	}
+
+	@Test
+	@DisplayName("id 키만 사용자 id 로 해석하고 숫자가 아닌 '#' 키는 null")
+	void userIdOf_OnlyParsesIdKeys() {
+		// when & then
+		assertEquals(5L, UserDetailsCache.userIdOf(UserDetailsCache.idKey(5L)));
+		assertNull(UserDetailsCache.userIdOf("#abc"));
+		assertNull(UserDetailsCache.userIdOf("testuser"));
+	}
+}
@@ -21,6 +21,8 @@ public class TestSecurityConfig {
 			.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 
 			.authorizeHttpRequests(authorize -> authorize
+				.requestMatchers(HttpMethod.GET, "/api/username/availability").permitAll()
+				.requestMatchers(HttpMethod.POST, "/api/logout", "/api/logout/all").authenticated()
 				.requestMatchers(HttpMethod.POST, "/api/**").permitAll()
 				.anyRequest().authenticated());
 
@@ -1,5 +1,9 @@
 package com.example.intern.user.controller;
 
+import com.example.intern.global.exception.ErrorCode;
+import com.example.intern.global.exception.GlobalException;
+import com.example.intern.jwt.IssuedTokens;
+import com.example.intern.jwt.JwtUtil;
 import com.example.intern.user.config.TestSecurityConfig;
 import com.example.intern.user.dto.LoginRequestDto;
 import com.example.intern.user.dto.SignUpRequestDto;
@@ -8,18 +12,27 @@ import com.example.intern.user.entity.User;
 import com.example.intern.user.entity.UserRole;
 import com.example.intern.user.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.mockito.BDDMockito.given;
 import static org.hamcrest.Matchers.is;
@@ -83,4 +96,85 @@ public class UserControllerTest {
 			.andExpect(jsonPath("$.msg", is("로그인이 완료되었습니다.")))
 			.andExpect(jsonPath("$.data", is(token)));
 	}
+
+	@Test
+	void loginAsync_shouldReturnTokenHeaders() throws Exception {
+		// given
+		LoginRequestDto loginRequestDto = new LoginRequestDto("username", "password");
+		IssuedTokens tokens = new IssuedTokens("mocked-jwt-token",
+			ResponseCookie.from(JwtUtil.REFRESH_HEADER, "mocked-refresh-token").build());
+
+		given(userService.loginAsync(Mockito.any(LoginRequestDto.class)))
+			.willReturn(CompletableFuture.completedFuture(tokens));
+
+		// when
+		MvcResult mvcResult = mockMvc.perform(post("/api/login/async")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(loginRequestDto)))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		// then
+		mockMvc.perform(asyncDispatch(mvcResult))
+			.andExpect(status().isOk())
+			.andExpect(header().string(JwtUtil.AUTHORIZATION_HEADER, JwtUtil.BEARER_PREFIX + "mocked-jwt-token"))
+			.andExpect(jsonPath("$.msg", is("로그인이 완료되었습니다.")))
+			.andExpect(jsonPath("$.data", is("mocked-jwt-token")));
+	}
+
+	@Test
+	void loginAsync_serverBusy_shouldReturnRetryAfter() throws Exception {
+		// given
+		LoginRequestDto loginRequestDto = new LoginRequestDto("username", "password");
+
+		given(userService.loginAsync(Mockito.any(LoginRequestDto.class)))
+			.willThrow(GlobalException.of(ErrorCode.SERVER_BUSY));
+
+		// when & then
+		mockMvc.perform(post("/api/login/async")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(loginRequestDto)))
+			.andExpect(status().isServiceUnavailable())
+			.andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+	}
+
+	@Test
+	void logout_withoutAuthentication_shouldBeForbidden() throws Exception {
+		// when & then
+		mockMvc.perform(post("/api/logout"))
+			.andExpect(status().isForbidden());
+		Mockito.verifyNoInteractions(userService);
+	}
+
+	@Test
+	@WithMockUser(username = "username")
+	void logout_shouldRevokeTokens() throws Exception {
+		// when & then
+		mockMvc.perform(post("/api/logout"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.msg", is("로그아웃이 완료되었습니다.")));
+		Mockito.verify(userService).logout(Mockito.any(), Mockito.any());
+	}
+
+	@Test
+	@WithMockUser(username = "username")
+	void logoutAll_shouldRevokeAllTokensOfPrincipal() throws Exception {
+		// when & then
+		mockMvc.perform(post("/api/logout/all"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.msg", is("모든 기기에서 로그아웃되었습니다.")));
+		Mockito.verify(userService).logoutAll(Mockito.eq("username"), Mockito.any());
+	}
+
+	@Test
+	void checkUsernameAvailability_shouldBePublic() throws Exception {
+		// given
+		given(userService.isUsernameAvailable("username")).willReturn(false);
+
+		// when & then
+		mockMvc.perform(get("/api/username/availability").param("username", "username"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.msg", is("이미 사용 중인 아이디입니다.")))
+			.andExpect(jsonPath("$.data", is(false)));
+	}
 }
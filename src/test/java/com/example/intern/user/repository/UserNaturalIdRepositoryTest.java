@@ -0,0 +1,87 @@
+package com.example.intern.user.repository;
+
+import com.example.intern.user.entity.User;
+import com.example.intern.user.entity.UserRole;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 각 호출이 별도 트랜잭션(Session)에서 실행되어야 1차 캐시가 아닌 2차 캐시를 확인할 수 있다
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserNaturalIdRepositoryTest {
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		userRepository.save(User.builder()
+			.username("cached")
+			.password("encodedPassword")
+			.nickname("nickname")
+			.userRole(UserRole.USER)
+			.build());
+		entityManagerFactory.getCache().evictAll();
+		statistics.clear();
+	}
+
+	@AfterEach
+	void tearDown() {
+		userRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("같은 username 을 다시 조회하면 DB 를 거치지 않고 캐시에서 찾음")
+	void findByUsername_Repeated_HitsCache() {
+		// given
+		userRepository.findByUsername("cached");
+		long statementsAfterFirst = statistics.getPrepareStatementCount();
+
+		// when
+		User user = userRepository.findByUsername("cached").orElseThrow();
+
+		// then
+		assertEquals("cached", user.getUsername());
+		assertEquals(statementsAfterFirst, statistics.getPrepareStatementCount());
+		assertTrue(statistics.getNaturalIdCacheHitCount() > 0);
+		assertTrue(statistics.getDomainDataRegionStatistics(User.CACHE_REGION).getHitCount() > 0);
+	}
+
+	@Test
+	@DisplayName("비밀번호를 바꿔 저장하면 다음 조회는 바뀐 값을 반환")
+	void findByUsername_AfterUpdate_ReturnsNewValue() {
+		// given
+		User user = userRepository.findByUsername("cached").orElseThrow();
+		user.updatePassword("rehashedPassword");
+
+		// when
+		userRepository.save(user);
+
+		// then
+		assertEquals("rehashedPassword", userRepository.findByUsername("cached").orElseThrow().getPassword());
+	}
+
+	@Test
+	@DisplayName("없는 username 은 빈 값")
+	void findByUsername_Unknown_Empty() {
+		// when & then
+		assertTrue(userRepository.findByUsername("unknown").isEmpty());
+	}
+}
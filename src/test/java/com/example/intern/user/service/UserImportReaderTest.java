@@ -0,0 +1,109 @@
+package com.example.intern.user.service;
+
+import com.example.intern.global.exception.ErrorCode;
+import com.example.intern.global.exception.GlobalException;
+import com.example.intern.user.dto.UserImportResponseDto.Reason;
+import com.example.intern.user.service.UserImportReader.Format;
+import com.example.intern.user.service.UserImportReader.Row;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserImportReaderTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	@DisplayName("NDJSON 은 빈 줄을 건너뛰고 읽을 수 없는 행은 줄 번호와 사유를 담아 돌려줌")
+	void ndjson_ReportsLineNumbers() throws IOException {
+		// given
+		UserImportReader reader = open(Format.NDJSON, """
+			{"username":"alice","password":"pw","nickname":"앨리스"}
+
+			{"username":"bob",
+			{"username":"carol","password":"pw"}
+			""");
+
+		// when
+		Row alice = reader.next();
+		Row malformed = reader.next();
+		Row missing = reader.next();
+
+		// then
+		assertEquals("alice", alice.getUsername());
+		assertEquals("앨리스", alice.getNickname());
+		assertNull(alice.getError());
+		assertEquals(3, malformed.getLine());
+		assertEquals(Reason.MALFORMED_ROW, malformed.getError());
+		assertEquals(4, missing.getLine());
+		assertEquals("carol", missing.getUsername());
+		assertEquals(Reason.MISSING_FIELD, missing.getError());
+		assertNull(reader.next());
+	}
+
+	@Test
+	@DisplayName("CSV 는 헤더의 열 순서를 따르고 따옴표 안의 쉼표와 따옴표를 값으로 읽음")
+	void csv_UsesHeaderOrderAndQuotes() throws IOException {
+		// given
+		UserImportReader reader = open(Format.CSV, """
+			nickname,username,password
+			"Kim, ""Jr""\",kim,secret
+			""");
+
+		// when
+		Row row = reader.next();
+
+		// then
+		assertEquals("kim", row.getUsername());
+		assertEquals("secret", row.getPassword());
+		assertEquals("Kim, \"Jr\"", row.getNickname());
+		assertEquals(2, row.getLine());
+		assertNull(reader.next());
+	}
+
+	@Test
+	@DisplayName("CSV 헤더에 필요한 열이 없으면 가져오기 자체를 거절")
+	void csv_MissingColumn_Rejected() {
+		// when
+		GlobalException exception = assertThrows(GlobalException.class,
+			() -> open(Format.CSV, "username,password\nkim,secret\n"));
+
+		// then
+		assertEquals(ErrorCode.INVALID_IMPORT_FORMAT, exception.getErrorCode());
+	}
+
+	@Test
+	@DisplayName("닫히지 않은 따옴표는 null")
+	void splitCsv_UnclosedQuote_Null() {
+		// when & then
+		assertEquals(List.of("a", "", "c"), UserImportReader.splitCsv("a,,c"));
+		assertNull(UserImportReader.splitCsv("a,\"b"));
+	}
+
+	@Test
+	@DisplayName("'#' 으로 시작하는 username 은 id 키로 예약되어 있어 RESERVED_USERNAME")
+	void ndjson_ReservedUsername_Rejected() throws IOException {
+		// given
+		UserImportReader reader = open(Format.NDJSON, """
+			{"username":"#1","password":"pw","nickname":"victim"}
+			""");
+
+		// when
+		Row row = reader.next();
+
+		// then
+		assertEquals(Reason.RESERVED_USERNAME, row.getError());
+		assertEquals("#1", row.getUsername());
+	}
+
+	private UserImportReader open(Format format, String body) throws IOException {
+		return UserImportReader.open(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format,
+			objectMapper);
+	}
+}
@@ -0,0 +1,180 @@
+package com.example.intern.user.service;
+
+import com.example.intern.global.exception.ErrorCode;
+import com.example.intern.global.exception.GlobalException;
+import com.example.intern.global.invalidation.InvalidationBus;
+import com.example.intern.global.metrics.AuthMetrics;
+import com.example.intern.user.dto.UserImportResponseDto;
+import com.example.intern.user.dto.UserImportResponseDto.Reason;
+import com.example.intern.user.dto.UserImportResponseDto.RowError;
+import com.example.intern.user.entity.User;
+import com.example.intern.user.entity.UserRole;
+import com.example.intern.user.repository.UserRepository;
+import com.example.intern.user.service.UserImportReader.Format;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 배치마다 커밋하는 동작을 확인하려면 테스트 트랜잭션이 없어야 한다
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserImportServiceTest {
+
+	private static final String API_KEY = "import-key";
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private UserImportService userImportService;
+
+	@BeforeEach
+	void setUp() {
+		userImportService = new UserImportService(userRepository, entityManager, transactionManager, passwordEncoder,
+			UsernameFilter.disabled(), InvalidationBus.noop(), AuthMetrics.noop(), new ObjectMapper(), meterRegistry, 3, 2,
+			100, API_KEY);
+	}
+
+	@AfterEach
+	void tearDown() {
+		userImportService.destroy();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("배치 크기를 넘는 행도 모두 가져오고 비밀번호는 해싱해서 저장")
+	void importUsers_MultipleBatches_AllInserted() throws IOException {
+		// given
+		StringBuilder body = new StringBuilder();
+		for (int i = 0; i < 7; i++) {
+			body.append("{\"username\":\"user").append(i).append("\",\"password\":\"pw").append(i)
+				.append("\",\"nickname\":\"nick").append(i).append("\"}\n");
+		}
+
+		// when
+		UserImportResponseDto result = importUsers(Format.NDJSON, body.toString(), false);
+
+		// then
+		assertEquals(7, result.getImported());
+		assertEquals(0, result.getFailed());
+		assertEquals(7, userRepository.count());
+		assertEquals(7, meterRegistry.get("user.import.rows").tag("result", "imported").counter().count());
+		User user = userRepository.findByUsername("user6").orElseThrow();
+		assertTrue(passwordEncoder.matches("pw6", user.getPassword()));
+		assertEquals(UserRole.USER, user.getUserRole());
+	}
+
+	@Test
+	@DisplayName("실패한 행은 줄 번호와 사유로 알려주고 나머지 행은 가져옴")
+	void importUsers_BadRows_ReportedPerRow() throws IOException {
+		// given
+		userRepository.save(User.builder()
+			.username("existing")
+			.password("encodedPassword")
+			.nickname("nickname")
+			.userRole(UserRole.USER)
+			.build());
+		String body = """
+			username,password,nickname
+			alice,pw,앨리스
+			alice,pw,앨리스2
+			existing,pw,중복
+			bob,,밥
+			"carol,pw,캐롤
+			dave,pw,데이브
+			""";
+
+		// when
+		UserImportResponseDto result = importUsers(Format.CSV, body, false);
+
+		// then
+		assertEquals(2, result.getImported());
+		assertEquals(4, result.getFailed());
+		assertFalse(result.isErrorsTruncated());
+		assertEquals(List.of(3L, 4L, 5L, 6L), result.getErrors().stream().map(RowError::getLine).toList());
+		assertEquals(List.of(Reason.DUPLICATE_IN_FILE, Reason.ALREADY_USERNAME, Reason.MISSING_FIELD, Reason.MALFORMED_ROW),
+			result.getErrors().stream().map(RowError::getReason).toList());
+		assertTrue(userRepository.findByUsername("dave").isPresent());
+	}
+
+	@Test
+	@DisplayName("다른 배치에 나뉘어 있는 파일 안 중복도 DUPLICATE_IN_FILE 로 알려줌")
+	void importUsers_DuplicateAcrossBatches_ReportedAsDuplicateInFile() throws IOException {
+		// given
+		String body = """
+			username,password,nickname
+			alice,pw,앨리스
+			bob,pw,밥
+			carol,pw,캐롤
+			alice,pw,앨리스2
+			""";
+
+		// when
+		UserImportResponseDto result = importUsers(Format.CSV, body, false);
+
+		// then
+		assertEquals(3, result.getImported());
+		assertEquals(1, result.getFailed());
+		assertEquals(5L, result.getErrors().get(0).getLine());
+		assertEquals(Reason.DUPLICATE_IN_FILE, result.getErrors().get(0).getReason());
+		assertEquals("앨리스", userRepository.findByUsername("alice").orElseThrow().getNickname());
+	}
+
+	@Test
+	@DisplayName("passwordEncoded 이면 BCrypt 해시를 그대로 저장하고 해시가 아닌 값은 거절")
+	void importUsers_PasswordEncoded_KeepsHash() throws IOException {
+		// given
+		String hash = passwordEncoder.encode("migrated");
+		String body = "{\"username\":\"hashed\",\"password\":\"" + hash + "\",\"nickname\":\"n\"}\n"
+			+ "{\"username\":\"plain\",\"password\":\"not-a-hash\",\"nickname\":\"n\"}\n";
+
+		// when
+		UserImportResponseDto result = importUsers(Format.NDJSON, body, true);
+
+		// then
+		assertEquals(1, result.getImported());
+		assertEquals(Reason.INVALID_PASSWORD_HASH, result.getErrors().get(0).getReason());
+		String stored = userRepository.findByUsername("hashed").orElseThrow().getPassword();
+		assertEquals("{bcrypt}" + hash, stored);
+		assertTrue(passwordEncoder.matches("migrated", stored.substring("{bcrypt}".length())));
+	}
+
+	@Test
+	@DisplayName("가져오기 키가 다르면 ACCESS_DENIED")
+	void importUsers_WrongKey_AccessDenied() {
+		// when
+		GlobalException exception = assertThrows(GlobalException.class, () -> userImportService.importUsers("wrong",
+			Format.NDJSON, new ByteArrayInputStream(new byte[0]), false));
+
+		// then
+		assertEquals(ErrorCode.ACCESS_DENIED, exception.getErrorCode());
+	}
+
+	private UserImportResponseDto importUsers(Format format, String body, boolean passwordEncoded) throws IOException {
+		return userImportService.importUsers(API_KEY, format,
+			new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), passwordEncoded);
+	}
+}
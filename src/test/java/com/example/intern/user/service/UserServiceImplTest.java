@@ -2,14 +2,21 @@ package com.example.intern.user.service;
 
 import com.example.intern.global.exception.ErrorCode;
 import com.example.intern.global.exception.GlobalException;
+import com.example.intern.global.executor.PasswordHashingExecutor;
+import com.example.intern.global.invalidation.InvalidationBus;
+import com.example.intern.global.metrics.AuthMetrics;
+import com.example.intern.jwt.IssuedTokens;
 import com.example.intern.jwt.JwtUtil;
+import com.example.intern.jwt.security.UserDetailsCache;
 import com.example.intern.user.dto.LoginRequestDto;
 import com.example.intern.user.dto.SignUpRequestDto;
 import com.example.intern.user.dto.UserResponseDto;
 import com.example.intern.user.entity.User;
 import com.example.intern.user.entity.UserRole;
 import com.example.intern.user.repository.UserRepository;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,12 +24,18 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -37,6 +50,18 @@ public class UserServiceImplTest {
 	@Mock
 	private JwtUtil jwtUtil;
 
+	@Mock
+	private UserDetailsCache userDetailsCache;
+
+	@Mock
+	private AuthMetrics authMetrics;
+
+	@Mock
+	private InvalidationBus invalidationBus;
+
+	@Mock
+	private UsernameFilter usernameFilter;
+
 	@InjectMocks
 	private UserServiceImpl userService;
 
@@ -50,7 +75,6 @@ public class UserServiceImplTest {
 	void signUp_CreateUser(){
 		// given
 		SignUpRequestDto signUpRequestDto = new SignUpRequestDto("testuser", "password", "nickname");
-		given(userRepository.findByUsername(signUpRequestDto.getUsername())).willReturn(Optional.empty());
 		given(passwordEncoder.encode(signUpRequestDto.getPassword())).willReturn("encodedPassword");
 
 		// when
@@ -62,12 +86,14 @@ public class UserServiceImplTest {
 		assertEquals("nickname", result.getNickname());
 
 		ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
-		verify(userRepository).save(userCaptor.capture());
+		verify(userRepository).saveAndFlush(userCaptor.capture());
+		verify(userRepository, never()).findByUsername(any());
 
 		User savedUser = userCaptor.getValue();
 		assertEquals("testuser", savedUser.getUsername());
 		assertEquals("encodedPassword", savedUser.getPassword());
 		assertEquals(UserRole.USER, savedUser.getUserRole());
+		verify(userDetailsCache).invalidate("testuser");
 	}
 
 	@Test
@@ -75,12 +101,10 @@ public class UserServiceImplTest {
 	void signUp_UsernameExists() {
 		// given
 		SignUpRequestDto signUpRequestDto = new SignUpRequestDto("testuser", "password", "nickname");
-		given(userRepository.findByUsername(signUpRequestDto.getUsername())).willReturn(Optional.of(User.builder()
-			.username("testuser")
-			.password("password")
-			.nickname("nickname")
-			.userRole(UserRole.USER)
-			.build()));
+		given(passwordEncoder.encode(signUpRequestDto.getPassword())).willReturn("encodedPassword");
+		given(userRepository.saveAndFlush(any(User.class)))
+			.willThrow(new DataIntegrityViolationException("duplicate", new ConstraintViolationException(
+				"duplicate", new SQLException(), "PUBLIC.UK_DB_USERS_USERNAME")));
 
 		// when & then
 		GlobalException exception = assertThrows(GlobalException.class, () -> userService.signUp(signUpRequestDto));
@@ -108,6 +132,33 @@ public class UserServiceImplTest {
 		// then
 		assertNotNull(token);
 		assertEquals("token", token);
+		verify(userRepository, never()).save(any(User.class));
+	}
+
+	@Test
+	@DisplayName("이전 cost 로 저장된 비밀번호는 로그인 성공 시 다시 해싱하여 저장")
+	void login_UpgradesOutdatedPasswordEncoding() {
+		// given
+		LoginRequestDto loginRequestDto = new LoginRequestDto("testuser", "password");
+		User user = User.builder()
+			.username("testuser")
+			.password("oldEncodedPassword")
+			.userRole(UserRole.USER)
+			.build();
+
+		given(userRepository.findByUsername(loginRequestDto.getUsername())).willReturn(Optional.of(user));
+		given(passwordEncoder.matches(loginRequestDto.getPassword(), "oldEncodedPassword")).willReturn(true);
+		given(passwordEncoder.upgradeEncoding("oldEncodedPassword")).willReturn(true);
+		given(passwordEncoder.encode(loginRequestDto.getPassword())).willReturn("{bcrypt}newEncodedPassword");
+		given(jwtUtil.issueTokens(any(User.class), any(HttpServletResponse.class))).willReturn("token");
+
+		// when
+		userService.login(loginRequestDto, mock(HttpServletResponse.class));
+
+		// then
+		assertEquals("{bcrypt}newEncodedPassword", user.getPassword());
+		verify(userRepository).save(user);
+		verify(userDetailsCache).invalidate("testuser");
 	}
 
 	@Test
@@ -139,4 +190,175 @@ public class UserServiceImplTest {
 		GlobalException exception = assertThrows(GlobalException.class, () -> userService.login(loginRequestDto, mock(HttpServletResponse.class)));
 		assertEquals(ErrorCode.INVALID_PASSWORD, exception.getErrorCode());
 	}
+
+	@Test
+	@DisplayName("필터에 없는 사용자명은 DB 조회 없이 로그인 거절")
+	void login_UsernameFilterMiss_SkipsRepository() {
+		// given
+		LoginRequestDto loginRequestDto = new LoginRequestDto("unknown", "password");
+		given(usernameFilter.definitelyAbsent("unknown")).willReturn(true);
+
+		// when & then
+		GlobalException exception = assertThrows(GlobalException.class, () -> userService.login(loginRequestDto, mock(HttpServletResponse.class)));
+		assertEquals(ErrorCode.NOT_FOUND_USERNAME, exception.getErrorCode());
+		verifyNoInteractions(userRepository, passwordEncoder);
+	}
+
+	@Test
+	@DisplayName("필터가 이미 있다고 답한 사용자명은 비밀번호 해싱 전에 중복 확인")
+	void signUp_UsernameFilterHit_RejectsBeforeHashing() {
+		// given
+		SignUpRequestDto signUpRequestDto = new SignUpRequestDto("testuser", "password", "nickname");
+		given(usernameFilter.probablyTaken("testuser")).willReturn(true);
+		given(userRepository.existsByUsername("testuser")).willReturn(true);
+
+		// when & then
+		GlobalException exception = assertThrows(GlobalException.class, () -> userService.signUp(signUpRequestDto));
+		assertEquals(ErrorCode.ALREADY_USERNAME, exception.getErrorCode());
+		verify(passwordEncoder, never()).encode(any());
+		verify(userRepository, never()).saveAndFlush(any());
+	}
+
+	@Test
+	@DisplayName("다른 노드에서 가입해 이 노드의 필터에 없는 사용자도 로그인 성공")
+	void login_SignedUpOnOtherNode_Success() {
+		// given
+		UsernameFilter localFilter = new UsernameFilter(true, false, 1024, 0.01);
+		localFilter.setUserRepository(userRepository);
+		given(userRepository.findUsernamesAfter(anyLong(), any())).willReturn(List.of());
+		localFilter.rebuild();
+		UserServiceImpl nodeB = new UserServiceImpl(userRepository, passwordEncoder, jwtUtil, userDetailsCache, null,
+			authMetrics, invalidationBus, localFilter);
+
+		LoginRequestDto loginRequestDto = new LoginRequestDto("newcomer", "password");
+		User user = User.builder()
+			.username("newcomer")
+			.password("encodedPassword")
+			.userRole(UserRole.USER)
+			.build();
+		given(userRepository.findByUsername("newcomer")).willReturn(Optional.of(user));
+		given(passwordEncoder.matches("password", "encodedPassword")).willReturn(true);
+		given(jwtUtil.issueTokens(any(User.class), any(HttpServletResponse.class))).willReturn("token");
+		given(userRepository.existsByUsername("newcomer")).willReturn(true);
+
+		// when
+		String token = nodeB.login(loginRequestDto, mock(HttpServletResponse.class));
+
+		// then
+		assertEquals("token", token);
+		assertFalse(nodeB.isUsernameAvailable("newcomer"));
+	}
+
+	@Test
+	@DisplayName("비동기 로그인은 사용자 조회를 호출 스레드에서, 비밀번호 비교만 해싱 풀에서 실행")
+	void loginAsync_OnlyPasswordMatchesOnHashingPool() {
+		// given
+		PasswordHashingExecutor hashingExecutor = new PasswordHashingExecutor(1, 1);
+		UserServiceImpl asyncService = new UserServiceImpl(userRepository, passwordEncoder, jwtUtil, userDetailsCache,
+			hashingExecutor, authMetrics, invalidationBus, usernameFilter);
+		Map<String, String> threads = new ConcurrentHashMap<>();
+		User user = User.builder()
+			.username("testuser")
+			.password("encodedPassword")
+			.userRole(UserRole.USER)
+			.build();
+		IssuedTokens tokens = mock(IssuedTokens.class);
+		given(userRepository.findByUsername("testuser")).willAnswer(invocation -> {
+			threads.put("find", Thread.currentThread().getName());
+			return Optional.of(user);
+		});
+		given(passwordEncoder.matches("password", "encodedPassword")).willAnswer(invocation -> {
+			threads.put("matches", Thread.currentThread().getName());
+			return true;
+		});
+		given(jwtUtil.createTokens(user)).willAnswer(invocation -> {
+			threads.put("tokens", Thread.currentThread().getName());
+			return tokens;
+		});
+
+		// when
+		IssuedTokens result = asyncService.loginAsync(new LoginRequestDto("testuser", "password")).join();
+		hashingExecutor.destroy();
+
+		// then
+		assertSame(tokens, result);
+		assertEquals(Thread.currentThread().getName(), threads.get("find"));
+		assertTrue(threads.get("matches").startsWith("password-hashing-"));
+		assertFalse(threads.get("tokens").startsWith("password-hashing-"));
+	}
+
+	@Test
+	@DisplayName("비동기 회원가입은 해싱만 해싱 풀에서 실행하고 INSERT 는 해싱 스레드 밖에서 실행")
+	void signUpAsync_OnlyPasswordEncodingOnHashingPool() {
+		// given
+		PasswordHashingExecutor hashingExecutor = new PasswordHashingExecutor(1, 1);
+		UserServiceImpl asyncService = new UserServiceImpl(userRepository, passwordEncoder, jwtUtil, userDetailsCache,
+			hashingExecutor, authMetrics, invalidationBus, usernameFilter);
+		Map<String, String> threads = new ConcurrentHashMap<>();
+		given(passwordEncoder.encode("password")).willAnswer(invocation -> {
+			threads.put("encode", Thread.currentThread().getName());
+			return "encodedPassword";
+		});
+		given(userRepository.saveAndFlush(any(User.class))).willAnswer(invocation -> {
+			threads.put("insert", Thread.currentThread().getName());
+			return invocation.getArgument(0);
+		});
+
+		// when
+		UserResponseDto result = asyncService.signUpAsync(new SignUpRequestDto("testuser", "password", "nickname")).join();
+		hashingExecutor.destroy();
+
+		// then
+		assertEquals("testuser", result.getUsername());
+		assertTrue(threads.get("encode").startsWith("password-hashing-"));
+		assertFalse(threads.get("insert").startsWith("password-hashing-"));
+	}
+
+	@Test
+	@DisplayName("'#' 으로 시작하는 username 은 다른 사용자의 id 키와 겹치므로 가입 거절")
+	void signUp_ReservedUsername_Rejected() {
+		// given
+		SignUpRequestDto signUpRequestDto = new SignUpRequestDto("#1", "password", "nickname");
+
+		// when
+		GlobalException exception = assertThrows(GlobalException.class, () -> userService.signUp(signUpRequestDto));
+
+		// then
+		assertEquals(ErrorCode.RESERVED_USERNAME, exception.getErrorCode());
+		verify(passwordEncoder, never()).encode(any());
+		verify(userRepository, never()).saveAndFlush(any());
+	}
+
+	@Test
+	@DisplayName("만료된 토큰으로 로그아웃하면 필터가 재발급한 액세스 토큰도 폐기")
+	void logout_RevokesAccessTokenRefreshedByFilter() {
+		// given
+		HttpServletRequest request = mock(HttpServletRequest.class);
+		HttpServletResponse response = mock(HttpServletResponse.class);
+		given(jwtUtil.getTokenFromHeader(JwtUtil.AUTHORIZATION_HEADER, request)).willReturn("expired");
+		given(jwtUtil.getIssuedAccessToken(response)).willReturn("refreshed");
+
+		// when
+		userService.logout(request, response);
+
+		// then
+		verify(jwtUtil).revokeToken("expired");
+		verify(jwtUtil).revokeToken("refreshed");
+		verify(jwtUtil).clearAuthToken(response);
+	}
+
+	@Test
+	@DisplayName("username 이 아닌 제약 위반은 중복 아이디로 바꾸지 않고 그대로 던짐")
+	void signUp_OtherConstraintViolation_Rethrown() {
+		// given
+		SignUpRequestDto signUpRequestDto = new SignUpRequestDto("testuser", "password", "nickname");
+		given(passwordEncoder.encode(signUpRequestDto.getPassword())).willReturn("encodedPassword");
+		given(userRepository.saveAndFlush(any(User.class)))
+			.willThrow(new DataIntegrityViolationException("value too long", new ConstraintViolationException(
+				"value too long", new SQLException(), "nickname")));
+		given(userRepository.existsByUsername("testuser")).willReturn(false);
+
+		// when & then
+		assertThrows(DataIntegrityViolationException.class, () -> userService.signUp(signUpRequestDto));
+	}
 }
@@ -0,0 +1,81 @@
+package com.example.intern.user.service;
+
+import com.example.intern.global.exception.ErrorCode;
+import com.example.intern.global.exception.GlobalException;
+import com.example.intern.global.invalidation.InvalidationBus;
+import com.example.intern.global.metrics.AuthMetrics;
+import com.example.intern.jwt.security.UserDetailsCache;
+import com.example.intern.user.dto.SignUpRequestDto;
+import com.example.intern.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserSignUpConcurrencyTest {
+
+	private static final int THREADS = 16;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@AfterEach
+	void tearDown() {
+		userRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("같은 아이디로 동시에 회원가입하면 정확히 한 명만 성공")
+	void signUp_ConcurrentSameUsername_ExactlyOneWinner() throws Exception {
+		// given
+		UserServiceImpl userService = new UserServiceImpl(userRepository, new BCryptPasswordEncoder(4), null,
+			UserDetailsCache.disabled(), null, AuthMetrics.noop(), InvalidationBus.noop(), UsernameFilter.disabled());
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+
+		// when
+		List<Future<ErrorCode>> results = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			SignUpRequestDto signUpRequestDto = new SignUpRequestDto("racer", "password", "nickname" + i);
+			results.add(executor.submit(() -> {
+				start.await();
+				try {
+					userService.signUp(signUpRequestDto);
+					return null;
+				} catch (GlobalException e) {
+					return e.getErrorCode();
+				}
+			}));
+		}
+		start.countDown();
+
+		int winners = 0;
+		for (Future<ErrorCode> result : results) {
+			ErrorCode errorCode = result.get();
+			if (errorCode == null) {
+				winners++;
+			} else {
+				assertEquals(ErrorCode.ALREADY_USERNAME, errorCode);
+			}
+		}
+		executor.shutdown();
+
+		// then
+		assertEquals(1, winners);
+		assertEquals(1, userRepository.count());
+	}
+}
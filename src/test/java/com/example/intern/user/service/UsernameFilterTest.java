@@ -0,0 +1,174 @@
+package com.example.intern.user.service;
+
+import com.example.intern.user.repository.UserRepository;
+import com.example.intern.user.repository.UserRepository.UsernameView;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class UsernameFilterTest {
+
+	private UserRepository userRepository;
+	private UsernameFilter usernameFilter;
+
+	@BeforeEach
+	void setUp() {
+		userRepository = mock(UserRepository.class);
+		usernameFilter = new UsernameFilter(true, true, 1024, 0.01);
+		usernameFilter.setUserRepository(userRepository);
+	}
+
+	@Test
+	@DisplayName("채우기 전에는 어떤 username 도 없다고 단정하지 않음")
+	void beforeRebuild_NeverDefinitelyAbsent() {
+		// when & then
+		assertFalse(usernameFilter.isActive());
+		assertFalse(usernameFilter.definitelyAbsent("unknown"));
+		assertFalse(usernameFilter.probablyTaken("unknown"));
+	}
+
+	@Test
+	@DisplayName("DB 의 username 으로 채운 뒤 가입된 username 은 항상 있을 수도 있음으로 답함")
+	void rebuild_LoadsExistingUsernames() {
+		// given
+		given(userRepository.count()).willReturn(2L);
+		given(userRepository.findUsernamesAfter(anyLong(), any()))
+			.willReturn(List.of(view(1L, "alice"), view(2L, "bob")));
+
+		// when
+		usernameFilter.rebuild();
+
+		// then
+		assertTrue(usernameFilter.isActive());
+		assertTrue(usernameFilter.probablyTaken("alice"));
+		assertTrue(usernameFilter.probablyTaken("bob"));
+		assertTrue(usernameFilter.definitelyAbsent("mallory"));
+	}
+
+	@Test
+	@DisplayName("채운 뒤 가입한 username 도 바로 반영")
+	void add_AfterRebuild_IsVisible() {
+		// given
+		given(userRepository.findUsernamesAfter(anyLong(), any())).willReturn(List.of());
+		usernameFilter.rebuild();
+
+		// when
+		usernameFilter.add("newcomer");
+
+		// then
+		assertFalse(usernameFilter.definitelyAbsent("newcomer"));
+	}
+
+	@Test
+	@DisplayName("다시 만드는 도중에 가입한 username 도 새 필터에 반영")
+	void add_DuringRebuild_KeptInNewFilter() {
+		// given
+		given(userRepository.findUsernamesAfter(anyLong(), any())).willAnswer(invocation -> {
+			usernameFilter.add("newcomer");
+			return List.of(view(1L, "alice"));
+		});
+
+		// when
+		usernameFilter.rebuild();
+
+		// then
+		assertTrue(usernameFilter.probablyTaken("alice"));
+		assertFalse(usernameFilter.definitelyAbsent("newcomer"));
+	}
+
+	@Test
+	@DisplayName("가입과 필터 교체가 동시에 일어나도 add 가 끝난 username 은 항상 현재 필터에 있음")
+	void add_ConcurrentWithRebuild_NeverLost() throws Exception {
+		// given
+		Set<String> database = ConcurrentHashMap.newKeySet();
+		given(userRepository.findUsernamesAfter(anyLong(), any())).willAnswer(invocation -> {
+			long id = 0;
+			List<UsernameView> page = new ArrayList<>();
+			for (String username : database) {
+				page.add(view(++id, username));
+			}
+			return page;
+		});
+		usernameFilter.rebuild();
+		AtomicBoolean running = new AtomicBoolean(true);
+		Thread rebuilder = new Thread(() -> {
+			while (running.get()) {
+				usernameFilter.rebuild();
+			}
+		});
+		rebuilder.start();
+
+		// when
+		List<String> lost = new ArrayList<>();
+		try {
+			for (int i = 0; i < 500; i++) {
+				String username = "user" + i;
+				database.add(username);
+				usernameFilter.add(username);
+				if (usernameFilter.definitelyAbsent(username)) {
+					lost.add(username);
+				}
+			}
+		} finally {
+			running.set(false);
+			rebuilder.join();
+		}
+
+		// then
+		assertEquals(List.of(), lost);
+	}
+
+	@Test
+	@DisplayName("authoritative 가 아니면 필터에 없어도 없다고 단정하지 않음 (다른 노드의 가입을 놓쳤을 수 있음)")
+	void notAuthoritative_NeverDefinitelyAbsent() {
+		// given
+		UsernameFilter shared = new UsernameFilter(true, false, 1024, 0.01);
+		shared.setUserRepository(userRepository);
+		given(userRepository.findUsernamesAfter(anyLong(), any())).willReturn(List.of(view(1L, "alice")));
+		shared.rebuild();
+
+		// when & then
+		assertTrue(shared.isActive());
+		assertTrue(shared.probablyTaken("alice"));
+		assertFalse(shared.definitelyAbsent("signedUpOnOtherNode"));
+	}
+
+	@Test
+	@DisplayName("꺼져 있으면 DB 를 읽지 않고 항상 기존 조회 경로로 보냄")
+	void disabled_NeverActive() {
+		// given
+		UsernameFilter disabled = UsernameFilter.disabled();
+
+		// when
+		disabled.rebuild();
+
+		// then
+		assertFalse(disabled.isActive());
+		assertFalse(disabled.definitelyAbsent("unknown"));
+	}
+
+	private static UsernameView view(long id, String username) {
+		return new UsernameView() {
+			@Override
+			public Long getId() {
+				return id;
+			}
+
+			@Override
+			public String getUsername() {
+				return username;
+			}
+		};
+	}
+}